@@ -193,6 +193,7 @@ export interface ApiResponse<T> {
     success: boolean;
     message: string;
     data: T;
+    nextCursor?: string; // Set on paginated lists that have a next page
 }
 
 // ============== API Client Class ==============
@@ -243,6 +244,23 @@ class ApiClient {
         return response.json();
     }
 
+    /**
+     * Fetch every page of a cursor-paginated list endpoint, following nextCursor
+     */
+    private async requestAllPages<T>(endpoint: string): Promise<ApiResponse<T[]>> {
+        const separator = endpoint.includes('?') ? '&' : '?';
+        const first = await this.request<ApiResponse<T[]>>(endpoint, { method: 'GET' });
+        const data = [...(first.data ?? [])];
+        let cursor = first.nextCursor;
+        while (cursor) {
+            const page = await this.request<ApiResponse<T[]>>(
+                `${endpoint}${separator}cursor=${encodeURIComponent(cursor)}`, { method: 'GET' });
+            data.push(...(page.data ?? []));
+            cursor = page.nextCursor;
+        }
+        return { success: first.success, message: first.message, data };
+    }
+
     // ============== Auth Controller Methods ==============
 
     /**
@@ -370,9 +388,7 @@ class ApiClient {
      * Get all active users
      */
     async getAllActiveUsers(): Promise<ApiResponse<UserResponse[]>> {
-        return this.request<ApiResponse<UserResponse[]>>('/users', {
-            method: 'GET',
-        });
+        return this.requestAllPages<UserResponse>('/users');
     }
 
     /**
@@ -465,18 +481,14 @@ class ApiClient {
      * Get all open projects
      */
     async getAllOpenProjects(): Promise<ApiResponse<ProjectResponse[]>> {
-        return this.request<ApiResponse<ProjectResponse[]>>('/projects/open', {
-            method: 'GET',
-        });
+        return this.requestAllPages<ProjectResponse>('/projects/open');
     }
 
     /**
      * Get projects accepting members
      */
     async getProjectsAcceptingMembers(): Promise<ApiResponse<ProjectResponse[]>> {
-        return this.request<ApiResponse<ProjectResponse[]>>('/projects/accepting-members', {
-            method: 'GET',
-        });
+        return this.requestAllPages<ProjectResponse>('/projects/accepting-members');
     }
 
     /**
@@ -532,18 +544,14 @@ class ApiClient {
      * Get received match requests
      */
     async getReceivedMatches(): Promise<ApiResponse<MatchResponse[]>> {
-        return this.request<ApiResponse<MatchResponse[]>>('/matches/received', {
-            method: 'GET',
-        });
+        return this.requestAllPages<MatchResponse>('/matches/received');
     }
 
     /**
      * Get sent match requests
      */
     async getSentMatches(): Promise<ApiResponse<MatchResponse[]>> {
-        return this.request<ApiResponse<MatchResponse[]>>('/matches/sent', {
-            method: 'GET',
-        });
+        return this.requestAllPages<MatchResponse>('/matches/sent');
     }
 
     /**
@@ -580,9 +588,7 @@ class ApiClient {
      * Get all skills
      */
     async getAllSkills(): Promise<ApiResponse<SkillResponse[]>> {
-        return this.request<ApiResponse<SkillResponse[]>>('/skills', {
-            method: 'GET',
-        });
+        return this.requestAllPages<SkillResponse>('/skills');
     }
 
     /**
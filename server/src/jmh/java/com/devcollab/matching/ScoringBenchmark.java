@@ -0,0 +1,85 @@
+package com.devcollab.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring throughput of the matching engine over synthetic populations.
+ * Compare {@code rankSequential} with {@code rankParallel} across {@code users}
+ * to find the crossover for {@code matching.parallel.threshold}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int users;
+
+    @Param({"4", "16"})
+    public int skillsPerUser;
+
+    @Param({"2", "8"})
+    public int interestsPerUser;
+
+    private MatchScoringEngine engine;
+    private CandidateRanker sequential;
+    private CandidateRanker parallel;
+    private MatchFeatures[] candidates;
+    private MatchFeatures user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new MatchScoringEngine();
+        sequential = new CandidateRanker(engine, Integer.MAX_VALUE, 8192, 0);
+        parallel = new CandidateRanker(engine, 0, 8192, 0);
+        candidates = SyntheticPopulation.users(users, skillsPerUser, interestsPerUser, 42).stream()
+                .map(engine::encode)
+                .toArray(MatchFeatures[]::new);
+        user = candidates[candidates.length / 2];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    /**
+     * Raw pairwise scoring: one user against the whole population
+     */
+    @Benchmark
+    public long evaluateAll() {
+        long sum = 0;
+        for (MatchFeatures candidate : candidates) {
+            sum += engine.evaluate(user, candidate);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public TopKSelector rankSequential() {
+        return sequential.rank(user, candidates, 10);
+    }
+
+    @Benchmark
+    public TopKSelector rankParallel() {
+        return parallel.rank(user, candidates, 10);
+    }
+}
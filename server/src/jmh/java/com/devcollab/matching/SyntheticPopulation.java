@@ -0,0 +1,72 @@
+package com.devcollab.matching;
+
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic synthetic users for benchmarks
+ */
+public final class SyntheticPopulation {
+
+    static final int SKILL_POOL = 500;
+    static final int INTEREST_POOL = 50;
+    private static final String[] TIMEZONES = {"UTC", "PST", "EST", "CET", "IST", "JST"};
+
+    private SyntheticPopulation() {
+    }
+
+    /**
+     * Generate users with IDs 1..count
+     * @param skillsPerUser    Average number of skills per user
+     * @param interestsPerUser Average number of interests per user
+     */
+    public static List<User> users(int count, int skillsPerUser, int interestsPerUser, long seed) {
+        Random random = new Random(seed);
+        Skill[] skills = new Skill[SKILL_POOL];
+        for (int i = 0; i < SKILL_POOL; i++) {
+            skills[i] = new Skill();
+            skills[i].setId((long) i + 1);
+            skills[i].setName("skill-" + (i + 1));
+            skills[i].setCategory(Skill.SkillCategory.OTHER);
+        }
+        User.ExperienceLevel[] levels = User.ExperienceLevel.values();
+
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setFullName("User " + i);
+            user.setExperienceLevel(levels[random.nextInt(levels.length)]);
+            user.setHoursPerWeek(5 + random.nextInt(8) * 5);
+            user.setTimezone(TIMEZONES[random.nextInt(TIMEZONES.length)]);
+
+            Set<Skill> userSkills = new HashSet<>();
+            for (int n = random.nextInt(2 * skillsPerUser + 1); n > 0; n--) {
+                userSkills.add(skills[skewed(random, SKILL_POOL)]);
+            }
+            user.setSkills(userSkills);
+
+            Set<String> interests = new HashSet<>();
+            for (int n = random.nextInt(2 * interestsPerUser + 1); n > 0; n--) {
+                interests.add("interest-" + skewed(random, INTEREST_POOL));
+            }
+            user.setInterests(interests);
+            users.add(user);
+        }
+        return users;
+    }
+
+    /**
+     * Pick from a pool with popular items drawn more often, like real skill tags
+     */
+    private static int skewed(Random random, int pool) {
+        double u = random.nextDouble();
+        return (int) (u * u * pool);
+    }
+}
@@ -0,0 +1,150 @@
+package com.devcollab.service.impl;
+
+import com.devcollab.dto.request.FindMatchesRequest;
+import com.devcollab.dto.response.MatchSuggestionResponse;
+import com.devcollab.mapper.SkillMapper;
+import com.devcollab.mapper.UserMapper;
+import com.devcollab.matching.CandidateIndex;
+import com.devcollab.matching.CandidateRanker;
+import com.devcollab.matching.MatchScoringEngine;
+import com.devcollab.matching.RecommendationStore;
+import com.devcollab.matching.SyntheticPopulation;
+import com.devcollab.model.User;
+import com.devcollab.repository.ProjectRepository;
+import com.devcollab.repository.UserRepository;
+import com.devcollab.service.GeminiService;
+import com.devcollab.service.MatchExplanationService;
+import com.devcollab.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * End-to-end latency of {@code findPotentialMatches} against an in-memory population.
+ * Repositories and the Gemini integration are stubbed, so only matching and mapping are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestionBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int users;
+
+    @Param({"false", "true"})
+    public boolean precomputed;
+
+    @Param({"false", "true"})
+    public boolean filtered;
+
+    private MatchServiceImpl matchService;
+    private CandidateRanker candidateRanker;
+    private FindMatchesRequest request;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<User> population = SyntheticPopulation.users(users, 8, 4, 42);
+        Map<Long, User> usersById = population.stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+        UserRepository userRepository = stub(UserRepository.class, (method, args) -> switch (method) {
+            case "findByActiveTrue" -> population;
+            case "findAllById" -> {
+                List<User> found = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(id -> found.add(usersById.get((Long) id)));
+                yield found;
+            }
+            default -> throw new UnsupportedOperationException(method);
+        });
+        ProjectRepository projectRepository = stub(ProjectRepository.class, (method, args) -> switch (method) {
+            case "findAllTitleRows" -> List.of();
+            default -> throw new UnsupportedOperationException(method);
+        });
+        UserService userService = stub(UserService.class, (method, args) -> switch (method) {
+            case "getUserEntityById" -> usersById.get((Long) args[0]);
+            default -> throw new UnsupportedOperationException(method);
+        });
+        GeminiService geminiService = stub(GeminiService.class, (method, args) -> switch (method) {
+            case "generateFallbackExplanation" -> "Stubbed explanation";
+            default -> throw new UnsupportedOperationException(method);
+        });
+        MatchExplanationService explanationService = stub(MatchExplanationService.class, (method, args) -> switch (method) {
+            case "requestExplanations" -> ((List<?>) args[1]).stream().map(candidate -> "token").toList();
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        MatchScoringEngine scoringEngine = new MatchScoringEngine();
+        candidateRanker = new CandidateRanker(scoringEngine, 50_000, 8192, 0);
+        CandidateIndex candidateIndex = new CandidateIndex(userRepository, projectRepository, scoringEngine);
+        candidateIndex.rebuild();
+        RecommendationStore recommendationStore = new RecommendationStore(candidateIndex, scoringEngine, candidateRanker, 100, users);
+        if (precomputed) {
+            recommendationStore.requestRebuild();
+            recommendationStore.refresh();
+        }
+
+        // Project matching is not measured, so the project index and mapper are left out
+        matchService = new MatchServiceImpl(null, userService, userRepository, null, null,
+                new UserMapper(new SkillMapper()), geminiService, explanationService,
+                candidateIndex, scoringEngine, recommendationStore, candidateRanker, null, null);
+
+        userId = users / 2;
+        request = new FindMatchesRequest();
+        request.setLimit(10);
+        if (filtered) {
+            request.setSkillIds(Set.of(1L, 2L, 3L));
+            request.setMinHoursPerWeek(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        candidateRanker.shutdown();
+    }
+
+    @Benchmark
+    public List<MatchSuggestionResponse> findPotentialMatches() {
+        return matchService.findPotentialMatches(userId, request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, StubHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            return handler.handle(method.getName(), args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        Object handle(String method, Object[] args);
+    }
+}
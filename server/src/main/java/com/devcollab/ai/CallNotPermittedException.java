@@ -0,0 +1,11 @@
+package com.devcollab.ai;
+
+/**
+ * Thrown when a call is short-circuited because its circuit breaker is open
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,200 @@
+package com.devcollab.ai;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Count-based circuit breaker for calls to an unreliable dependency.
+ * <p>
+ * Outcomes of the last {@code windowSize} calls are kept in a ring buffer. Once at least
+ * {@code minimumCalls} are recorded and either the failure rate or the slow-call rate
+ * reaches its threshold, the breaker opens and rejects calls immediately with
+ * {@link CallNotPermittedException}. After {@code openDuration} it lets a limited number
+ * of probe calls through (half-open); if they all succeed it closes again, otherwise it reopens.
+ * Every transition starts a new generation, and a call that completes after a transition it
+ * started before is ignored, so a late call is never mistaken for a probe.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+
+    private final byte[] outcomes;
+    private int head;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long notPermittedCalls;
+
+    public CircuitBreaker(String name, Settings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Settings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.outcomes = new byte[settings.windowSize()];
+    }
+
+    /**
+     * Run a call through the breaker
+     * @throws CallNotPermittedException if the breaker is open
+     */
+    public <T> T execute(Supplier<T> call) {
+        long permittedGeneration = acquirePermission();
+        long start = nanoClock.getAsLong();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            onComplete(permittedGeneration, failed, nanoClock.getAsLong() - start);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return currentState();
+    }
+
+    /**
+     * Snapshot of the breaker state and its current window
+     */
+    public synchronized Stats stats() {
+        return new Stats(name, currentState(), rate(failures), rate(slowCalls), recorded, notPermittedCalls);
+    }
+
+    /**
+     * Permit a call, returning the generation its outcome belongs to
+     */
+    private synchronized long acquirePermission() {
+        State current = currentState();
+        if (current == State.CLOSED) {
+            return generation;
+        }
+        if (current == State.HALF_OPEN && probesInFlight + probeSuccesses < settings.halfOpenProbes()) {
+            probesInFlight++;
+            return generation;
+        }
+        notPermittedCalls++;
+        throw new CallNotPermittedException("Circuit breaker '" + name + "' is open");
+    }
+
+    private synchronized void onComplete(long permittedGeneration, boolean failed, long durationNanos) {
+        if (permittedGeneration != generation) {
+            return; // Started before the last transition
+        }
+        boolean slow = durationNanos >= settings.slowCallThreshold().toNanos();
+
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (failed || slow) {
+                transitionTo(State.OPEN);
+            } else if (++probeSuccesses >= settings.halfOpenProbes()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record((byte) ((failed ? FAILURE : SUCCESS) | (slow ? SLOW : SUCCESS)));
+        if (recorded >= settings.minimumCalls()
+                && (rate(failures) >= settings.failureRateThreshold() || rate(slowCalls) >= settings.slowCallRateThreshold())) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(byte outcome) {
+        if (recorded == outcomes.length) {
+            forget(outcomes[head]);
+        } else {
+            recorded++;
+        }
+        outcomes[head] = outcome;
+        if ((outcome & FAILURE) != 0) {
+            failures++;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls++;
+        }
+        head = (head + 1) % outcomes.length;
+    }
+
+    private void forget(byte outcome) {
+        if ((outcome & FAILURE) != 0) {
+            failures--;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls--;
+        }
+    }
+
+    private State currentState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= settings.openDuration().toNanos()) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Circuit breaker '{}' changed from {} to {}", name, state, next);
+        state = next;
+        generation++;
+        head = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    private float rate(int count) {
+        return recorded == 0 ? 0f : count * 100f / recorded;
+    }
+
+    /**
+     * Circuit breaker thresholds
+     *
+     * @param windowSize            Number of recent calls the rates are computed over
+     * @param minimumCalls          Calls required in the window before the breaker can open
+     * @param failureRateThreshold  Failure percentage that opens the breaker
+     * @param slowCallThreshold     Duration from which a call counts as slow
+     * @param slowCallRateThreshold Slow call percentage that opens the breaker
+     * @param openDuration          Time the breaker stays open before probing
+     * @param halfOpenProbes        Successful probe calls required to close again
+     */
+    public record Settings(int windowSize, int minimumCalls, float failureRateThreshold,
+                           Duration slowCallThreshold, float slowCallRateThreshold,
+                           Duration openDuration, int halfOpenProbes) {
+    }
+
+    /**
+     * Circuit breaker state for diagnostics
+     */
+    public record Stats(String name, State state, float failureRate, float slowCallRate,
+                        int bufferedCalls, long notPermittedCalls) {
+    }
+}
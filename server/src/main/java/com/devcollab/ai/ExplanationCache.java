@@ -0,0 +1,233 @@
+package com.devcollab.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache for AI generated text, keyed by a SHA-256 hash of the prompt.
+ * Entries live in a size-bounded LRU map with a TTL, and optionally in an on-disk
+ * tier that survives restarts (enabled by setting {@code gemini.cache.disk-dir}).
+ * The disk tier is capped too: once it holds more than {@code gemini.cache.disk-max-entries}
+ * files, expired files and then the oldest ones are deleted down to 90% of the cap.
+ */
+@Component
+@Slf4j
+public class ExplanationCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Path diskDir;
+    private final int maxDiskEntries;
+    private final LongSupplier clock;
+    private final Map<String, CachedText> entries;
+    private final AtomicInteger diskEntries = new AtomicInteger();
+    private final Object pruneLock = new Object();
+
+    public ExplanationCache(@Value("${gemini.cache.max-entries:10000}") int maxEntries,
+                            @Value("${gemini.cache.ttl-hours:24}") long ttlHours,
+                            @Value("${gemini.cache.disk-dir:}") String diskDir,
+                            @Value("${gemini.cache.disk-max-entries:100000}") int maxDiskEntries) {
+        this(maxEntries, TimeUnit.HOURS.toMillis(ttlHours), diskDir, maxDiskEntries, System::currentTimeMillis);
+    }
+
+    ExplanationCache(int maxEntries, long ttlMillis, String diskDir, int maxDiskEntries, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.diskDir = diskDir == null || diskDir.isBlank() ? null : Paths.get(diskDir);
+        this.maxDiskEntries = maxDiskEntries;
+        this.clock = clock;
+        if (this.diskDir != null) {
+            diskEntries.set(diskFiles().size());
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedText> eldest) {
+                return size() > ExplanationCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Compute the cache key for a prompt
+     */
+    public static String keyOf(String model, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((model != null ? model : "").getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Optional<String> get(String key) {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            CachedText cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    return Optional.of(cached.text());
+                }
+                entries.remove(key);
+            }
+        }
+
+        Optional<CachedText> fromDisk = readFromDisk(key, now);
+        fromDisk.ifPresent(cached -> {
+            synchronized (entries) {
+                entries.put(key, cached);
+            }
+        });
+        return fromDisk.map(CachedText::text);
+    }
+
+    public void put(String key, String text) {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            entries.put(key, new CachedText(text, now + ttlMillis));
+        }
+        writeToDisk(key, text, now);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Number of entries in the disk tier, as tracked between prunes
+     */
+    public int diskSize() {
+        return diskEntries.get();
+    }
+
+    /**
+     * Read an entry from disk; it expires a TTL after the file was written, not after it was read
+     */
+    private Optional<CachedText> readFromDisk(String key, long now) {
+        if (diskDir == null) {
+            return Optional.empty();
+        }
+        Path file = fileFor(key);
+        try {
+            if (!Files.exists(file)) {
+                return Optional.empty();
+            }
+            long expiresAt = Files.getLastModifiedTime(file).toMillis() + ttlMillis;
+            if (expiresAt <= now) {
+                if (Files.deleteIfExists(file)) {
+                    diskEntries.decrementAndGet();
+                }
+                return Optional.empty();
+            }
+            return Optional.of(new CachedText(Files.readString(file, StandardCharsets.UTF_8), expiresAt));
+        } catch (IOException e) {
+            log.warn("Could not read cached explanation {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDisk(String key, String text, long now) {
+        if (diskDir == null) {
+            return;
+        }
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+            Files.writeString(temp, text, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(now));
+            boolean added = !Files.exists(file);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (added && diskEntries.incrementAndGet() > maxDiskEntries) {
+                pruneDisk(now);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write cached explanation {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete expired files, then the least recently written ones, down to 90% of the cap
+     */
+    private void pruneDisk(long now) {
+        synchronized (pruneLock) {
+            if (diskEntries.get() <= maxDiskEntries) {
+                return; // Pruned by another writer meanwhile
+            }
+            List<DiskEntry> files = new ArrayList<>();
+            for (Path file : diskFiles()) {
+                try {
+                    files.add(new DiskEntry(file, Files.getLastModifiedTime(file).toMillis()));
+                } catch (IOException e) {
+                    // Deleted meanwhile
+                }
+            }
+            files.sort(Comparator.comparingLong(DiskEntry::writtenAt));
+
+            int target = maxDiskEntries - maxDiskEntries / 10;
+            int remaining = files.size();
+            for (DiskEntry entry : files) {
+                if (remaining <= target && entry.writtenAt() + ttlMillis > now) {
+                    break;
+                }
+                try {
+                    Files.deleteIfExists(entry.file());
+                    remaining--;
+                } catch (IOException e) {
+                    log.warn("Could not delete cached explanation {}: {}", entry.file(), e.getMessage());
+                }
+            }
+            diskEntries.set(remaining);
+            log.debug("Pruned explanation disk cache from {} to {} files", files.size(), remaining);
+        }
+    }
+
+    private List<Path> diskFiles() {
+        if (!Files.isDirectory(diskDir)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(diskDir, 2)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".txt")).toList();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not list the explanation disk cache: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private Path fileFor(String key) {
+        return diskDir.resolve(key.substring(0, 2)).resolve(key + ".txt");
+    }
+
+    private record CachedText(String text, long expiresAt) {
+    }
+
+    private record DiskEntry(Path file, long writtenAt) {
+    }
+}
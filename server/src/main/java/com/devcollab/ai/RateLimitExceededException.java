@@ -0,0 +1,11 @@
+package com.devcollab.ai;
+
+/**
+ * Thrown when a call is refused because its rate limit is reached
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
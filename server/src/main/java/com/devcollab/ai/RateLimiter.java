@@ -0,0 +1,110 @@
+package com.devcollab.ai;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiter with a bounded, deadline-aware waiting queue.
+ * <p>
+ * Permits refill at a fixed rate up to a burst size. A caller that finds the bucket
+ * empty reserves the next free permit and sleeps until it is due, unless that wait
+ * would exceed the caller's budget or too many callers are already waiting; in both
+ * cases it is rejected immediately so it can fall back instead of queueing.
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final double permitsPerSecond;
+    private final double burst;
+    private final int maxWaiting;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+
+    private double storedPermits;
+    private long nextFreeNanos;
+    private int waiting;
+    private long acquired;
+    private long rejected;
+
+    public RateLimiter(String name, double permitsPerSecond, int burst, int maxWaiting) {
+        this(name, permitsPerSecond, burst, maxWaiting, System::nanoTime);
+    }
+
+    RateLimiter(String name, double permitsPerSecond, int burst, int maxWaiting, LongSupplier nanoClock) {
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxWaiting = maxWaiting;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nanoClock = nanoClock;
+        this.storedPermits = burst;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Acquire a permit, waiting at most {@code maxWait} for it
+     * @return false if the permit could not be granted within the budget
+     */
+    public boolean tryAcquire(Duration maxWait) {
+        long waitNanos = reserve(maxWait.toNanos());
+        if (waitNanos < 0) {
+            return false;
+        }
+        if (waitNanos == 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            synchronized (this) {
+                waiting--;
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(name, permitsPerSecond, waiting, acquired, rejected);
+    }
+
+    /**
+     * Reserve the next permit
+     * @return Nanoseconds to wait before using it, or -1 if rejected
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        long now = nanoClock.getAsLong();
+        if (now > nextFreeNanos) {
+            storedPermits = Math.min(burst, storedPermits + (double) (now - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = now;
+        }
+
+        long waitNanos = nextFreeNanos - now;
+        if (waitNanos > maxWaitNanos || (waitNanos > 0 && waiting >= maxWaiting)) {
+            rejected++;
+            return -1;
+        }
+
+        double fromStored = Math.min(1, storedPermits);
+        storedPermits -= fromStored;
+        nextFreeNanos += (long) ((1 - fromStored) * intervalNanos);
+        acquired++;
+        if (waitNanos > 0) {
+            waiting++;
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Rate limiter state for diagnostics
+     */
+    public record Stats(String name, double permitsPerSecond, int waiting, long acquired, long rejected) {
+    }
+}
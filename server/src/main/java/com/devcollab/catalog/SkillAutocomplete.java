@@ -0,0 +1,252 @@
+package com.devcollab.catalog;
+
+import com.devcollab.dto.response.SkillResponse;
+import com.devcollab.event.SkillsCreatedEvent;
+import com.devcollab.mapper.SkillMapper;
+import com.devcollab.matching.TopKSelector;
+import com.devcollab.repository.SkillRepository;
+import com.devcollab.repository.projection.SkillUsage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Typeahead over skill names.
+ * <p>
+ * Queries of one or two characters match the start of any word of a name through a sorted word
+ * list; longer queries match anywhere in a name through a trigram index, intersecting the posting
+ * lists of the query's trigrams and verifying the few survivors. Matches rank exact name first,
+ * then name prefix, word prefix and inner match, and within each tier by how many users have the
+ * skill. The index is built from the {@link SkillCatalog} at startup and rebuilt in full, from the
+ * skills it already holds plus the new ones, when skills are created.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillAutocomplete {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final int POPULARITY_BITS = 27;
+    private static final int MAX_POPULARITY = (1 << POPULARITY_BITS) - 1;
+
+    private final SkillCatalog skillCatalog;
+    private final SkillRepository skillRepository;
+    private final SkillMapper skillMapper;
+
+    private volatile Index index = Index.of(List.of());
+    private volatile Map<Long, Integer> popularity = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        index = Index.of(skillCatalog.all());
+        refreshPopularity();
+        log.info("Built skill autocomplete index over {} skills", index.skills().length);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSkillsCreated(SkillsCreatedEvent event) {
+        index = index.with(event.skills().stream().map(skillMapper::toResponse).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${skills.autocomplete.popularity-refresh-ms:600000}",
+            initialDelayString = "${skills.autocomplete.popularity-refresh-ms:600000}")
+    public void refreshPopularity() {
+        Map<Long, Integer> usage = new HashMap<>();
+        for (SkillUsage skill : skillRepository.countUsersBySkill()) {
+            usage.put(skill.skillId(), (int) Math.min(skill.users(), MAX_POPULARITY));
+        }
+        updatePopularity(usage);
+    }
+
+    void updatePopularity(Map<Long, Integer> usage) {
+        popularity = Map.copyOf(usage);
+    }
+
+    /**
+     * Suggest skills for what the user has typed so far
+     * @param limit Maximum number of suggestions, capped at {@link #MAX_LIMIT}
+     */
+    public List<SkillResponse> suggest(String query, int limit) {
+        String needle = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Index current = index;
+        Map<Long, Integer> usage = popularity;
+        TopKSelector topK = new TopKSelector(Math.min(limit, MAX_LIMIT));
+        if (needle.length() < 3) {
+            BitSet seen = new BitSet(current.skills().length);
+            for (int i = lowerBound(current.words(), needle);
+                 i < current.words().length && current.words()[i].startsWith(needle); i++) {
+                int position = current.wordOwners()[i];
+                if (!seen.get(position)) {
+                    seen.set(position);
+                    topK.offer(position, rank(current, usage, position, needle), 0);
+                }
+            }
+        } else {
+            for (int position : current.candidates(needle)) {
+                if (current.names()[position].contains(needle)) {
+                    topK.offer(position, rank(current, usage, position, needle), 0);
+                }
+            }
+        }
+
+        topK.finish();
+        List<SkillResponse> suggestions = new ArrayList<>(topK.size());
+        for (int rank = 0; rank < topK.size(); rank++) {
+            suggestions.add(current.skills()[(int) topK.id(rank)]);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Match tier in the high bits, popularity below; ties go to the lower position, i.e. alphabetical order
+     */
+    private static int rank(Index index, Map<Long, Integer> usage, int position, String needle) {
+        String name = index.names()[position];
+        int tier;
+        if (name.equals(needle)) {
+            tier = 3;
+        } else if (name.startsWith(needle)) {
+            tier = 2;
+        } else if (startsWord(name, needle)) {
+            tier = 1;
+        } else {
+            tier = 0;
+        }
+        return tier << POPULARITY_BITS | usage.getOrDefault(index.skills()[position].getId(), 0);
+    }
+
+    private static boolean startsWord(String name, String needle) {
+        for (int at = name.indexOf(needle, 1); at > 0; at = name.indexOf(needle, at + 1)) {
+            if (!Character.isLetterOrDigit(name.charAt(at - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int index = Arrays.binarySearch(sorted, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static long trigram(String text, int at) {
+        return (long) text.charAt(at) << 32 | (long) text.charAt(at + 1) << 16 | text.charAt(at + 2);
+    }
+
+    /**
+     * Immutable index; skills are kept in name order so positions break ties alphabetically
+     */
+    private record Index(SkillResponse[] skills, String[] names, String[] words, int[] wordOwners,
+                         Map<Long, int[]> trigrams) {
+
+        static Index of(Collection<SkillResponse> source) {
+            SkillResponse[] skills = source.stream()
+                    .sorted(Comparator.comparing((SkillResponse skill) -> skill.getName().toLowerCase(Locale.ROOT))
+                            .thenComparing(SkillResponse::getId))
+                    .toArray(SkillResponse[]::new);
+            String[] names = new String[skills.length];
+            List<Word> wordList = new ArrayList<>();
+            Map<Long, List<Integer>> postings = new HashMap<>();
+
+            for (int position = 0; position < skills.length; position++) {
+                String name = skills[position].getName().toLowerCase(Locale.ROOT);
+                names[position] = name;
+                wordList.add(new Word(name, position));
+                for (String word : name.split("[^\\p{L}\\p{N}]+")) {
+                    if (!word.isEmpty() && !name.startsWith(word)) {
+                        wordList.add(new Word(word, position));
+                    }
+                }
+                for (int at = 0; at + 3 <= name.length(); at++) {
+                    List<Integer> list = postings.computeIfAbsent(trigram(name, at), key -> new ArrayList<>());
+                    if (list.isEmpty() || list.get(list.size() - 1) != position) {
+                        list.add(position);
+                    }
+                }
+            }
+
+            wordList.sort(Comparator.comparing(Word::text));
+            String[] words = new String[wordList.size()];
+            int[] wordOwners = new int[wordList.size()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = wordList.get(i).text();
+                wordOwners[i] = wordList.get(i).owner();
+            }
+            Map<Long, int[]> trigrams = new HashMap<>(postings.size() * 2);
+            postings.forEach((key, list) -> trigrams.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+            return new Index(skills, names, words, wordOwners, trigrams);
+        }
+
+        /**
+         * Full rebuild with the added skills merged in; positions follow name order, so inserting
+         * a skill shifts them all. Skills are created rarely, and the rebuild reads no database.
+         */
+        Index with(Collection<SkillResponse> added) {
+            Map<Long, SkillResponse> merged = new HashMap<>();
+            for (SkillResponse skill : skills) {
+                merged.put(skill.getId(), skill);
+            }
+            for (SkillResponse skill : added) {
+                merged.put(skill.getId(), skill);
+            }
+            return of(merged.values());
+        }
+
+        /**
+         * Positions of names containing every trigram of the needle, in ascending order
+         */
+        int[] candidates(String needle) {
+            int[] result = null;
+            for (int at = 0; at + 3 <= needle.length(); at++) {
+                int[] postings = trigrams.get(trigram(needle, at));
+                if (postings == null) {
+                    return new int[0];
+                }
+                result = result == null ? postings : intersect(result, postings);
+                if (result.length == 0) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] out = new int[Math.min(left.length, right.length)];
+            int count = 0;
+            for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    out[count++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, count);
+        }
+    }
+
+    private record Word(String text, int owner) {
+    }
+}
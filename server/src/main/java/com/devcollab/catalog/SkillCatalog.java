@@ -0,0 +1,200 @@
+package com.devcollab.catalog;
+
+import com.devcollab.dto.response.ApiResponse;
+import com.devcollab.dto.response.CursorPage;
+import com.devcollab.dto.response.SkillResponse;
+import com.devcollab.event.SkillsCreatedEvent;
+import com.devcollab.mapper.SkillMapper;
+import com.devcollab.model.Skill;
+import com.devcollab.repository.SkillRepository;
+import com.devcollab.util.CursorCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory, versioned copy of the skill catalog.
+ * <p>
+ * The catalog is small and read far more often than written, so it is loaded once at startup
+ * and replaced with a new version whenever skills are created. Each version keeps the response
+ * bodies of the hottest reads already serialized, together with an ETag derived from their
+ * content, so these requests are answered without touching Hibernate or Jackson.
+ */
+@Component
+@Slf4j
+public class SkillCatalog {
+
+    private final SkillRepository skillRepository;
+    private final SkillMapper skillMapper;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public SkillCatalog(SkillRepository skillRepository, SkillMapper skillMapper, ObjectMapper objectMapper) {
+        this.skillRepository = skillRepository;
+        this.skillMapper = skillMapper;
+        this.objectMapper = objectMapper;
+        this.snapshot = snapshotOf(0, new SkillResponse[0]);
+    }
+
+    /**
+     * A serialized response body with its entity tag
+     */
+    public record CachedBody(String etag, byte[] json) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void load() {
+        SkillResponse[] skills = skillRepository.findAll(Sort.by("id")).stream()
+                .map(skillMapper::toResponse)
+                .toArray(SkillResponse[]::new);
+        snapshot = snapshotOf(snapshot.version() + 1, skills);
+        log.info("Loaded skill catalog version {} with {} skills", snapshot.version(), skills.length);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSkillsCreated(SkillsCreatedEvent event) {
+        List<SkillResponse> skills = new ArrayList<>(Arrays.asList(snapshot.skills()));
+        for (Skill skill : event.skills()) {
+            if (indexOf(snapshot.skills(), skill.getId()) < 0) {
+                skills.add(skillMapper.toResponse(skill));
+            }
+        }
+        skills.sort(Comparator.comparing(SkillResponse::getId));
+        snapshot = snapshotOf(snapshot.version() + 1, skills.toArray(SkillResponse[]::new));
+        log.debug("Skill catalog updated to version {}", snapshot.version());
+    }
+
+    public long version() {
+        return snapshot.version();
+    }
+
+    public int size() {
+        return snapshot.skills().length;
+    }
+
+    public List<SkillResponse> all() {
+        return List.of(snapshot.skills());
+    }
+
+    /**
+     * Get a page of skills in ID order
+     */
+    public CursorPage<SkillResponse> page(String cursor, Integer size) {
+        SkillResponse[] skills = snapshot.skills();
+        int pageSize = CursorPage.sizeOf(size);
+        int index = indexOf(skills, CursorCodec.decode(cursor) + 1);
+        int from = index >= 0 ? index : -index - 1;
+        List<SkillResponse> rows = Arrays.asList(skills).subList(from, Math.min(skills.length, from + pageSize + 1));
+        return CursorPage.of(rows, pageSize, SkillResponse::getId, skill -> skill);
+    }
+
+    public List<SkillResponse> byCategory(Skill.SkillCategory category) {
+        return Arrays.stream(snapshot.skills())
+                .filter(skill -> skill.getCategory() == category)
+                .toList();
+    }
+
+    /**
+     * Skills whose name contains the query, ignoring case
+     */
+    public List<SkillResponse> search(String query) {
+        Snapshot current = snapshot;
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<SkillResponse> matches = new ArrayList<>();
+        for (int i = 0; i < current.skills().length; i++) {
+            if (current.lowerCaseNames()[i].contains(needle)) {
+                matches.add(current.skills()[i]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Serialized body of a page of skills; the first page at the default size is serialized in advance
+     */
+    public CachedBody pageBody(String cursor, Integer size) {
+        if ((cursor == null || cursor.isBlank()) && CursorPage.sizeOf(size) == CursorPage.DEFAULT_SIZE) {
+            return snapshot.firstPage();
+        }
+        return serialize(ApiResponse.page(page(cursor, size)));
+    }
+
+    public CachedBody categoryBody(Skill.SkillCategory category) {
+        return snapshot.categories().get(category);
+    }
+
+    private Snapshot snapshotOf(long version, SkillResponse[] skills) {
+        String[] lowerCaseNames = new String[skills.length];
+        Map<Skill.SkillCategory, List<SkillResponse>> byCategory = new EnumMap<>(Skill.SkillCategory.class);
+        for (Skill.SkillCategory category : Skill.SkillCategory.values()) {
+            byCategory.put(category, new ArrayList<>());
+        }
+        for (int i = 0; i < skills.length; i++) {
+            lowerCaseNames[i] = skills[i].getName().toLowerCase(Locale.ROOT);
+            byCategory.get(skills[i].getCategory()).add(skills[i]);
+        }
+
+        Map<Skill.SkillCategory, CachedBody> categories = new EnumMap<>(Skill.SkillCategory.class);
+        byCategory.forEach((category, members) -> categories.put(category, serialize(ApiResponse.success(members))));
+        List<SkillResponse> all = Arrays.asList(skills);
+        CachedBody firstPage = serialize(ApiResponse.page(
+                CursorPage.of(all.subList(0, Math.min(skills.length, CursorPage.DEFAULT_SIZE + 1)),
+                        CursorPage.DEFAULT_SIZE, SkillResponse::getId, skill -> skill)));
+        return new Snapshot(version, skills, lowerCaseNames, categories, firstPage);
+    }
+
+    private CachedBody serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new CachedBody("\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"", json);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not serialize skill catalog", e);
+        }
+    }
+
+    /**
+     * Binary search by ID
+     * @return The index, or {@code -(insertion point) - 1} if absent
+     */
+    private static int indexOf(SkillResponse[] skills, long id) {
+        int low = 0;
+        int high = skills.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = skills[mid].getId();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private record Snapshot(long version, SkillResponse[] skills, String[] lowerCaseNames,
+                            Map<Skill.SkillCategory, CachedBody> categories, CachedBody firstPage) {
+    }
+}
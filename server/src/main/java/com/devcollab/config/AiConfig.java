@@ -0,0 +1,38 @@
+package com.devcollab.config;
+
+import com.devcollab.ai.CircuitBreaker;
+import com.devcollab.ai.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Resilience settings for the Gemini integration
+ */
+@Configuration
+public class AiConfig {
+
+    @Bean
+    public CircuitBreaker geminiCircuitBreaker(
+            @Value("${gemini.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${gemini.circuit-breaker.minimum-calls:5}") int minimumCalls,
+            @Value("${gemini.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${gemini.circuit-breaker.slow-call-threshold-ms:8000}") long slowCallThresholdMs,
+            @Value("${gemini.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${gemini.circuit-breaker.open-duration-seconds:30}") long openDurationSeconds,
+            @Value("${gemini.circuit-breaker.half-open-probes:2}") int halfOpenProbes) {
+        return new CircuitBreaker("gemini", new CircuitBreaker.Settings(windowSize, minimumCalls,
+                failureRateThreshold, Duration.ofMillis(slowCallThresholdMs), slowCallRateThreshold,
+                Duration.ofSeconds(openDurationSeconds), halfOpenProbes));
+    }
+
+    @Bean
+    public RateLimiter geminiRateLimiter(
+            @Value("${gemini.rate-limit.requests-per-minute:60}") int requestsPerMinute,
+            @Value("${gemini.rate-limit.burst:10}") int burst,
+            @Value("${gemini.rate-limit.max-waiting:20}") int maxWaiting) {
+        return new RateLimiter("gemini", requestsPerMinute / 60.0, burst, maxWaiting);
+    }
+}
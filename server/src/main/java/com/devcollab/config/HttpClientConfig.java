@@ -0,0 +1,45 @@
+package com.devcollab.config;
+
+import com.devcollab.http.OutboundHttpClients;
+import com.devcollab.http.OutboundHttpSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * HTTP clients for outbound dependencies
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public RestTemplate geminiRestTemplate(OutboundHttpClients clients,
+                                           @Value("${http.clients.gemini.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                           @Value("${http.clients.gemini.read-timeout-ms:15000}") long readTimeoutMs,
+                                           @Value("${http.clients.gemini.max-concurrent:8}") int maxConcurrent,
+                                           @Value("${http.clients.gemini.acquire-timeout-ms:250}") long acquireTimeoutMs,
+                                           @Value("${http.clients.gemini.total-timeout-ms:20000}") long totalTimeoutMs) {
+        return clients.create("gemini",
+                settings(connectTimeoutMs, readTimeoutMs, maxConcurrent, acquireTimeoutMs, totalTimeoutMs));
+    }
+
+    @Bean
+    public RestTemplate githubRestTemplate(OutboundHttpClients clients,
+                                           @Value("${http.clients.github.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                           @Value("${http.clients.github.read-timeout-ms:5000}") long readTimeoutMs,
+                                           @Value("${http.clients.github.max-concurrent:16}") int maxConcurrent,
+                                           @Value("${http.clients.github.acquire-timeout-ms:500}") long acquireTimeoutMs,
+                                           @Value("${http.clients.github.total-timeout-ms:8000}") long totalTimeoutMs) {
+        return clients.create("github",
+                settings(connectTimeoutMs, readTimeoutMs, maxConcurrent, acquireTimeoutMs, totalTimeoutMs));
+    }
+
+    private static OutboundHttpSettings settings(long connectTimeoutMs, long readTimeoutMs,
+                                                 int maxConcurrent, long acquireTimeoutMs, long totalTimeoutMs) {
+        return new OutboundHttpSettings(Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs),
+                maxConcurrent, Duration.ofMillis(acquireTimeoutMs), Duration.ofMillis(totalTimeoutMs));
+    }
+}
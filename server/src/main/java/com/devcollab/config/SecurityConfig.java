@@ -61,10 +61,13 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Logout revokes every token of the caller, so only the caller may do it
+                        .requestMatchers("/api/auth/logout").authenticated()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/skills/search/**",
                                 "/api/skills",
+                                "/api/skills/autocomplete",
                                 "/h2-console/**",
                                 "/actuator/**",
                                 "/swagger-ui/**",
@@ -5,6 +5,7 @@ import com.devcollab.dto.request.OAuth2RegisterRequest;
 import com.devcollab.dto.request.RegisterRequest;
 import com.devcollab.dto.response.ApiResponse;
 import com.devcollab.dto.response.AuthResponse;
+import com.devcollab.security.CurrentUserId;
 import com.devcollab.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -60,7 +61,7 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@RequestParam Long userId) {
+    public ResponseEntity<ApiResponse<Void>> logout(@CurrentUserId Long userId) {
         log.info("Logout request received for user ID: {}", userId);
         authService.logout(userId);
         return ResponseEntity.ok(ApiResponse.success("Logout successful", null));
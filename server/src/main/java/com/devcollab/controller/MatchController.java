@@ -4,36 +4,65 @@ import com.devcollab.dto.request.CreateMatchRequest;
 import com.devcollab.dto.request.FindMatchesRequest;
 import com.devcollab.dto.request.MatchResponseRequest;
 import com.devcollab.dto.response.ApiResponse;
+import com.devcollab.dto.response.CursorPage;
+import com.devcollab.dto.response.MatchExplanationResponse;
 import com.devcollab.dto.response.MatchResponse;
 import com.devcollab.dto.response.MatchSuggestionResponse;
+import com.devcollab.dto.response.ProjectRecommendationResponse;
+import com.devcollab.exception.BadRequestException;
+import com.devcollab.exception.ResourceNotFoundException;
+import com.devcollab.security.CurrentUserId;
+import com.devcollab.service.MatchExplanationService;
 import com.devcollab.service.MatchService;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Controller for matching and collaboration endpoints
  */
 @RestController
 @RequestMapping("/api/matches")
-@RequiredArgsConstructor
 @Slf4j
 public class MatchController {
 
     private final MatchService matchService;
+    private final MatchExplanationService matchExplanationService;
+    private final long streamTimeoutMs;
+    private final ThreadPoolExecutor streamExecutor;
+
+    public MatchController(MatchService matchService, MatchExplanationService matchExplanationService,
+                           @Value("${matching.stream.timeout-ms:60000}") long streamTimeoutMs,
+                           @Value("${matching.stream.pool-size:8}") int streamPoolSize) {
+        this.matchService = matchService;
+        this.matchExplanationService = matchExplanationService;
+        this.streamTimeoutMs = streamTimeoutMs;
+        // When every stream thread is busy, the search runs on the request thread and is sent in one go
+        this.streamExecutor = new ThreadPoolExecutor(streamPoolSize, streamPoolSize, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("match-stream-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.streamExecutor.allowCoreThreadTimeOut(true);
+    }
 
     @PostMapping
     public ResponseEntity<ApiResponse<MatchResponse>> createMatch(
             @Valid @RequestBody CreateMatchRequest request,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Create match request");
-        Long userId = 1L; // Placeholder
         MatchResponse match = matchService.createMatch(userId, request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Match request created successfully", match));
@@ -43,9 +72,8 @@ public class MatchController {
     public ResponseEntity<ApiResponse<MatchResponse>> respondToMatch(
             @PathVariable Long matchId,
             @Valid @RequestBody MatchResponseRequest request,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Respond to match request for match ID: {}", matchId);
-        Long userId = 1L; // Placeholder
         MatchResponse match = matchService.respondToMatch(matchId, userId, request);
         return ResponseEntity.ok(ApiResponse.success("Match response recorded successfully", match));
     }
@@ -58,25 +86,28 @@ public class MatchController {
     }
 
     @GetMapping("/received")
-    public ResponseEntity<ApiResponse<List<MatchResponse>>> getReceivedMatches(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<MatchResponse>>> getReceivedMatches(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Get received matches request");
-        Long userId = 1L; // Placeholder
-        List<MatchResponse> matches = matchService.getReceivedMatches(userId);
-        return ResponseEntity.ok(ApiResponse.success(matches));
+        CursorPage<MatchResponse> matches = matchService.getReceivedMatches(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(matches));
     }
 
     @GetMapping("/sent")
-    public ResponseEntity<ApiResponse<List<MatchResponse>>> getSentMatches(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<MatchResponse>>> getSentMatches(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Get sent matches request");
-        Long userId = 1L; // Placeholder
-        List<MatchResponse> matches = matchService.getSentMatches(userId);
-        return ResponseEntity.ok(ApiResponse.success(matches));
+        CursorPage<MatchResponse> matches = matchService.getSentMatches(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(matches));
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<ApiResponse<List<MatchResponse>>> getPendingMatches(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<MatchResponse>>> getPendingMatches(@CurrentUserId Long userId) {
         log.info("Get pending matches request");
-        Long userId = 1L; // Placeholder
         List<MatchResponse> matches = matchService.getPendingMatches(userId);
         return ResponseEntity.ok(ApiResponse.success(matches));
     }
@@ -84,13 +115,78 @@ public class MatchController {
     @PostMapping("/find")
     public ResponseEntity<ApiResponse<List<MatchSuggestionResponse>>> findPotentialMatches(
             @RequestBody FindMatchesRequest request,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Find potential matches request");
-        Long userId = 40L; // Placeholder
         List<MatchSuggestionResponse> suggestions = matchService.findPotentialMatches(userId, request);
         return ResponseEntity.ok(ApiResponse.success(suggestions));
     }
 
+    @GetMapping("/projects")
+    public ResponseEntity<ApiResponse<List<ProjectRecommendationResponse>>> recommendProjects(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Recommend projects request");
+        List<ProjectRecommendationResponse> projects = matchService.recommendProjects(userId, limit);
+        return ResponseEntity.ok(ApiResponse.success(projects));
+    }
+
+    /**
+     * Streaming variant of {@code /find}: sends each ranked suggestion as a {@code suggestion} event
+     * as soon as it is mapped, then an {@code explanation} event per suggestion as its AI
+     * explanation arrives, and finally a {@code complete} event. A failed search sends an
+     * {@code error} event instead.
+     */
+    @PostMapping(value = "/find/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPotentialMatches(
+            @RequestBody FindMatchesRequest request,
+            @CurrentUserId Long userId) {
+        log.info("Stream potential matches request");
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        MatchEventStream stream = new MatchEventStream(emitter);
+        streamExecutor.execute(() -> stream(userId, request, stream));
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
+
+    void stream(Long userId, FindMatchesRequest request, MatchEventStream stream) {
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        try {
+            matchService.findPotentialMatches(userId, request, suggestion -> {
+                if (stream.send("suggestion", suggestion)) {
+                    pending.add(matchExplanationService.awaitExplanation(suggestion.getExplanationToken())
+                            .thenAccept(explanation -> stream.send("explanation", explanation)));
+                }
+            });
+        } catch (ResourceNotFoundException | BadRequestException e) {
+            stream.send("error", ApiResponse.error(e.getMessage()));
+            stream.complete();
+            return;
+        } catch (RuntimeException e) {
+            log.error("Match stream failed: ", e);
+            stream.send("error", ApiResponse.error("An unexpected error occurred"));
+            stream.complete();
+            return;
+        }
+
+        int count = pending.size();
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> {
+                    stream.send("complete", count);
+                    stream.complete();
+                });
+    }
+
+    @GetMapping("/explanations/{token}")
+    public ResponseEntity<ApiResponse<MatchExplanationResponse>> getMatchExplanation(@PathVariable String token) {
+        log.info("Get match explanation request for token: {}", token);
+        MatchExplanationResponse explanation = matchExplanationService.getExplanation(token);
+        return ResponseEntity.ok(ApiResponse.success(explanation));
+    }
+
     @GetMapping("/score/{userId1}/{userId2}")
     public ResponseEntity<ApiResponse<Double>> calculateMatchScore(
             @PathVariable Long userId1,
@@ -0,0 +1,58 @@
+package com.devcollab.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent events of one streamed match search.
+ * <p>
+ * Closes on completion, timeout, error or a failed send, and sends nothing after that,
+ * so explanations arriving late do not write to an emitter the client has left.
+ */
+@Slf4j
+final class MatchEventStream {
+
+    private final SseEmitter emitter;
+    private final AtomicBoolean open = new AtomicBoolean(true);
+
+    MatchEventStream(SseEmitter emitter) {
+        this.emitter = emitter;
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onError(error -> open.set(false));
+        emitter.onTimeout(() -> {
+            log.debug("Match stream timed out");
+            complete();
+        });
+    }
+
+    boolean isOpen() {
+        return open.get();
+    }
+
+    /**
+     * Send an event, or return false if the stream is closed
+     */
+    boolean send(String name, Object data) {
+        if (!open.get()) {
+            return false;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Match stream closed before {} event: {}", name, e.getMessage());
+            open.set(false);
+            return false;
+        }
+    }
+
+    void complete() {
+        if (open.compareAndSet(true, false)) {
+            emitter.complete();
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.devcollab.controller;
 
 import com.devcollab.dto.request.CreateProjectRequest;
+import com.devcollab.dto.request.ProjectSearchRequest;
 import com.devcollab.dto.request.UpdateProjectRequest;
 import com.devcollab.dto.response.ApiResponse;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.ProjectResponse;
+import com.devcollab.security.CurrentUserId;
 import com.devcollab.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -29,15 +31,23 @@ public class ProjectController {
     @PostMapping
     public ResponseEntity<ApiResponse<ProjectResponse>> createProject(
             @Valid @RequestBody CreateProjectRequest request,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Create project request");
-        // In a real implementation, extract userId from authentication
-        Long userId = 1L; // Placeholder
         ProjectResponse project = projectService.createProject(userId, request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Project created successfully", project));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> searchProjects(
+            ProjectSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("Search projects request");
+        CursorPage<ProjectResponse> projects = projectService.searchProjects(request, cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(projects));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProjectResponse>> getProjectById(@PathVariable Long id) {
         log.info("Get project request for ID: {}", id);
@@ -49,9 +59,8 @@ public class ProjectController {
     public ResponseEntity<ApiResponse<ProjectResponse>> updateProject(
             @PathVariable Long id,
             @RequestBody UpdateProjectRequest request,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Update project request for ID: {}", id);
-        Long userId = 1L; // Placeholder
         ProjectResponse project = projectService.updateProject(id, userId, request);
         return ResponseEntity.ok(ApiResponse.success("Project updated successfully", project));
     }
@@ -59,9 +68,8 @@ public class ProjectController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteProject(
             @PathVariable Long id,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Delete project request for ID: {}", id);
-        Long userId = 1L; // Placeholder
         projectService.deleteProject(id, userId);
         return ResponseEntity.ok(ApiResponse.success("Project deleted successfully", null));
     }
@@ -74,26 +82,29 @@ public class ProjectController {
     }
 
     @GetMapping("/open")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getAllOpenProjects() {
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getAllOpenProjects(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Get all open projects request");
-        List<ProjectResponse> projects = projectService.getAllOpenProjects();
-        return ResponseEntity.ok(ApiResponse.success(projects));
+        CursorPage<ProjectResponse> projects = projectService.getAllOpenProjects(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(projects));
     }
 
     @GetMapping("/accepting-members")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsAcceptingMembers() {
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsAcceptingMembers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Get projects accepting members request");
-        List<ProjectResponse> projects = projectService.getProjectsAcceptingMembers();
-        return ResponseEntity.ok(ApiResponse.success(projects));
+        CursorPage<ProjectResponse> projects = projectService.getProjectsAcceptingMembers(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(projects));
     }
 
     @PostMapping("/{projectId}/members/{memberId}")
     public ResponseEntity<ApiResponse<ProjectResponse>> addTeamMember(
             @PathVariable Long projectId,
             @PathVariable Long memberId,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Add team member request for project ID: {} and member ID: {}", projectId, memberId);
-        Long userId = 1L; // Placeholder
         ProjectResponse project = projectService.addTeamMember(projectId, userId, memberId);
         return ResponseEntity.ok(ApiResponse.success("Team member added successfully", project));
     }
@@ -102,9 +113,8 @@ public class ProjectController {
     public ResponseEntity<ApiResponse<ProjectResponse>> removeTeamMember(
             @PathVariable Long projectId,
             @PathVariable Long memberId,
-            Authentication authentication) {
+            @CurrentUserId Long userId) {
         log.info("Remove team member request for project ID: {} and member ID: {}", projectId, memberId);
-        Long userId = 1L; // Placeholder
         ProjectResponse project = projectService.removeTeamMember(projectId, userId, memberId);
         return ResponseEntity.ok(ApiResponse.success("Team member removed successfully", project));
     }
@@ -1,14 +1,20 @@
 package com.devcollab.controller;
 
+import com.devcollab.catalog.SkillAutocomplete;
+import com.devcollab.catalog.SkillCatalog;
+import com.devcollab.catalog.SkillCatalog.CachedBody;
 import com.devcollab.dto.response.ApiResponse;
 import com.devcollab.dto.response.SkillResponse;
 import com.devcollab.model.Skill;
 import com.devcollab.service.SkillService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,12 +28,16 @@ import java.util.List;
 public class SkillController {
 
     private final SkillService skillService;
+    private final SkillCatalog skillCatalog;
+    private final SkillAutocomplete skillAutocomplete;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SkillResponse>>> getAllSkills() {
-        log.info("Get all skills request");
-        List<SkillResponse> skills = skillService.getAllSkills();
-        return ResponseEntity.ok(ApiResponse.success(skills));
+    public ResponseEntity<byte[]> getAllSkills(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        log.debug("Get all skills request");
+        return cached(skillCatalog.pageBody(cursor, size), webRequest);
     }
 
     @GetMapping("/{id}")
@@ -38,10 +48,21 @@ public class SkillController {
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<ApiResponse<List<SkillResponse>>> getSkillsByCategory(
-            @PathVariable Skill.SkillCategory category) {
-        log.info("Get skills by category request: {}", category);
-        List<SkillResponse> skills = skillService.getSkillsByCategory(category);
+    public ResponseEntity<byte[]> getSkillsByCategory(
+            @PathVariable Skill.SkillCategory category,
+            WebRequest webRequest) {
+        log.debug("Get skills by category request: {}", category);
+        return cached(skillCatalog.categoryBody(category), webRequest);
+    }
+
+    /**
+     * Typeahead for the skill picker, best matches first
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<SkillResponse>>> autocompleteSkills(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SkillResponse> skills = skillAutocomplete.suggest(query, limit);
         return ResponseEntity.ok(ApiResponse.success(skills));
     }
 
@@ -62,4 +83,18 @@ public class SkillController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Skill created successfully", skill));
     }
+
+    /**
+     * Answer with a pre-serialized catalog body, or 304 if the client already has it
+     */
+    private static ResponseEntity<byte[]> cached(CachedBody body, WebRequest webRequest) {
+        if (webRequest.checkNotModified(body.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(body.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.json());
+    }
 }
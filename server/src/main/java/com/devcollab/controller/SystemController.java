@@ -0,0 +1,42 @@
+package com.devcollab.controller;
+
+import com.devcollab.ai.CircuitBreaker;
+import com.devcollab.ai.RateLimiter;
+import com.devcollab.dto.response.ApiResponse;
+import com.devcollab.http.Bulkhead;
+import com.devcollab.http.OutboundHttpClients;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller for runtime diagnostics
+ */
+@RestController
+@RequestMapping("/api/system")
+@RequiredArgsConstructor
+public class SystemController {
+
+    private final OutboundHttpClients outboundHttpClients;
+    private final List<CircuitBreaker> circuitBreakers;
+    private final List<RateLimiter> rateLimiters;
+
+    @GetMapping("/http-clients")
+    public ResponseEntity<ApiResponse<List<Bulkhead.Stats>>> getHttpClientStats() {
+        return ResponseEntity.ok(ApiResponse.success(outboundHttpClients.stats()));
+    }
+
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<ApiResponse<List<CircuitBreaker.Stats>>> getCircuitBreakerStats() {
+        return ResponseEntity.ok(ApiResponse.success(circuitBreakers.stream().map(CircuitBreaker::stats).toList()));
+    }
+
+    @GetMapping("/rate-limiters")
+    public ResponseEntity<ApiResponse<List<RateLimiter.Stats>>> getRateLimiterStats() {
+        return ResponseEntity.ok(ApiResponse.success(rateLimiters.stream().map(RateLimiter::stats).toList()));
+    }
+}
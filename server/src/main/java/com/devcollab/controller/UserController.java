@@ -3,15 +3,16 @@ package com.devcollab.controller;
 import com.devcollab.dto.request.OnboardingRequest;
 import com.devcollab.dto.request.UpdateUserRequest;
 import com.devcollab.dto.response.ApiResponse;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.UserResponse;
-import com.devcollab.exception.UnauthorizedException;
+import com.devcollab.exception.ForbiddenException;
+import com.devcollab.security.CurrentUserId;
 import com.devcollab.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -42,52 +43,52 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(Authentication authentication) {
-        log.info("Get current user request, authentication: {}", authentication != null ? authentication.getName() : "null");
-        
-        if (authentication == null) {
-            log.error("Authentication is null for /api/users/me request");
-            throw new UnauthorizedException("Authentication required");
-        }
-        
-        String email = authentication.getName();
-        UserResponse user = userService.getUserByEmail(email);
+    public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(@CurrentUserId Long userId) {
+        log.info("Get current user request for user ID: {}", userId);
+        UserResponse user = userService.getUserById(userId);
         return ResponseEntity.ok(ApiResponse.success(user));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> updateUser(
             @PathVariable Long id,
-            @RequestBody UpdateUserRequest request) {
+            @RequestBody UpdateUserRequest request,
+            @CurrentUserId Long userId) {
         log.info("Update user request for ID: {}", id);
+        requireSelf(id, userId);
         UserResponse user = userService.updateUser(id, request);
         return ResponseEntity.ok(ApiResponse.success("User updated successfully", user));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id, @CurrentUserId Long userId) {
         log.info("Delete user request for ID: {}", id);
+        requireSelf(id, userId);
         userService.deleteUser(id);
         return ResponseEntity.ok(ApiResponse.success("User deleted successfully", null));
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllActiveUsers() {
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllActiveUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Get all active users request");
-        List<UserResponse> users = userService.getAllActiveUsers();
-        return ResponseEntity.ok(ApiResponse.success(users));
+        CursorPage<UserResponse> users = userService.getAllActiveUsers(cursor, size);
+        return ResponseEntity.ok(ApiResponse.page(users));
     }
 
     @PostMapping("/{id}/sync-github")
-    public ResponseEntity<ApiResponse<UserResponse>> syncGitHubSkills(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<UserResponse>> syncGitHubSkills(@PathVariable Long id, @CurrentUserId Long userId) {
         log.info("Sync GitHub skills request for user ID: {}", id);
+        requireSelf(id, userId);
         UserResponse user = userService.syncGitHubSkills(id);
         return ResponseEntity.ok(ApiResponse.success("GitHub skills synced successfully", user));
     }
 
     @PostMapping("/{id}/enrich-profile")
-    public ResponseEntity<ApiResponse<UserResponse>> enrichProfile(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<UserResponse>> enrichProfile(@PathVariable Long id, @CurrentUserId Long userId) {
         log.info("Enrich profile request for user ID: {}", id);
+        requireSelf(id, userId);
         UserResponse user = userService.enrichProfileWithAI(id);
         return ResponseEntity.ok(ApiResponse.success("Profile enriched successfully", user));
     }
@@ -95,8 +96,10 @@ public class UserController {
     @PostMapping("/{id}/onboarding")
     public ResponseEntity<ApiResponse<UserResponse>> completeOnboarding(
             @PathVariable Long id,
-            @Valid @RequestBody OnboardingRequest request) {
+            @Valid @RequestBody OnboardingRequest request,
+            @CurrentUserId Long userId) {
         log.info("Onboarding request for user ID: {}", id);
+        requireSelf(id, userId);
         UserResponse user = userService.completeOnboarding(id, request);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.success("Onboarding completed successfully", user));
@@ -108,4 +111,13 @@ public class UserController {
         boolean isComplete = userService.isOnboardingComplete(id);
         return ResponseEntity.ok(ApiResponse.success(isComplete));
     }
+
+    /**
+     * Users may only change their own account
+     */
+    private static void requireSelf(Long id, Long userId) {
+        if (!id.equals(userId)) {
+            throw new ForbiddenException("You are not authorized to modify this user");
+        }
+    }
 }
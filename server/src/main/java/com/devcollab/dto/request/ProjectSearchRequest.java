@@ -0,0 +1,23 @@
+package com.devcollab.dto.request;
+
+import com.devcollab.model.Project;
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * Request DTO for searching projects; every criterion is optional
+ */
+@Data
+public class ProjectSearchRequest {
+
+    private String query; // Words to find in the title, description or tags
+
+    private Project.ProjectType projectType;
+
+    private Project.ProjectStatus status;
+
+    private Set<Long> skillIds; // Projects requiring any of these skills
+
+    private Boolean open;
+}
@@ -0,0 +1,53 @@
+package com.devcollab.dto.response;
+
+import com.devcollab.util.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list, with the cursor of the next page if there is one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    private List<T> items;
+    private String nextCursor;
+
+    /**
+     * Page size to use for a requested size, capped at {@link #MAX_SIZE}
+     */
+    public static int sizeOf(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    /**
+     * Build a page from rows fetched with a limit of {@code size + 1}; the extra row only signals a next page
+     */
+    public static <E, R> CursorPage<R> of(List<E> rows, int size, Function<E, Long> idOf, Function<E, R> mapper) {
+        return ofBatch(rows, size, idOf, page -> page.stream().map(mapper).toList());
+    }
+
+    /**
+     * Like {@link #of}, mapping the rows of the page in one call
+     */
+    public static <E, R> CursorPage<R> ofBatch(List<E> rows, int size, Function<E, Long> idOf,
+                                              Function<List<E>, List<R>> mapper) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(mapper.apply(rows), null);
+        }
+        List<E> page = rows.subList(0, size);
+        return new CursorPage<>(mapper.apply(page), CursorCodec.encode(idOf.apply(page.get(size - 1))));
+    }
+}
@@ -0,0 +1,23 @@
+package com.devcollab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for an asynchronously generated match explanation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchExplanationResponse {
+
+    private String token;
+    private ExplanationStatus status;
+    private String explanation;
+
+    public enum ExplanationStatus {
+        PENDING,
+        READY
+    }
+}
@@ -17,4 +17,6 @@ public class MatchSuggestionResponse {
     private String matchExplanation;
     private Integer commonSkillsCount;
     private Integer commonInterestsCount;
+    private String explanationToken; // Fetch the AI explanation with GET /api/matches/explanations/{token}
+    private Integer projectSkillCoverage; // Percentage of the project's required skills, when matching for a project
 }
@@ -0,0 +1,19 @@
+package com.devcollab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for projects recommended to a user
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectRecommendationResponse {
+
+    private ProjectResponse project;
+    private Double matchScore; // Percentage of the project's missing skills the user has
+    private Integer missingSkillsFilled;
+    private Integer missingSkillsCount;
+}
@@ -0,0 +1,10 @@
+package com.devcollab.event;
+
+import com.devcollab.model.Project;
+
+/**
+ * Published whenever a project is created or updated, including its team.
+ * Listeners receive it after the surrounding transaction commits.
+ */
+public record ProjectChangedEvent(Project project) {
+}
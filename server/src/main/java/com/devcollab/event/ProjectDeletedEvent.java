@@ -0,0 +1,8 @@
+package com.devcollab.event;
+
+/**
+ * Published when a project is deleted.
+ * Listeners receive it after the surrounding transaction commits.
+ */
+public record ProjectDeletedEvent(Long projectId) {
+}
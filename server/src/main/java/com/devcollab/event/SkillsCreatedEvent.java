@@ -0,0 +1,12 @@
+package com.devcollab.event;
+
+import com.devcollab.model.Skill;
+
+import java.util.Collection;
+
+/**
+ * Published when new skills are added to the catalog.
+ * Listeners receive it after the surrounding transaction commits.
+ */
+public record SkillsCreatedEvent(Collection<Skill> skills) {
+}
@@ -0,0 +1,10 @@
+package com.devcollab.event;
+
+import com.devcollab.model.User;
+
+/**
+ * Published whenever a user is created, updated or deactivated.
+ * Listeners receive it after the surrounding transaction commits.
+ */
+public record UserProfileChangedEvent(User user) {
+}
@@ -0,0 +1,8 @@
+package com.devcollab.event;
+
+/**
+ * Published when every access token of a user issued before {@code tokenVersion} must be rejected.
+ * Listeners receive it after the surrounding transaction commits.
+ */
+public record UserTokensRevokedEvent(Long userId, int tokenVersion) {
+}
@@ -0,0 +1,272 @@
+package com.devcollab.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of concurrent calls to one outbound dependency and records
+ * latency and saturation statistics for it. Callers that cannot get a permit
+ * within the acquire timeout fail with {@link BulkheadFullException} instead of queueing.
+ * <p>
+ * A call holds its permit until its response is closed or the request fails, so reading
+ * the body counts against the limit and the latency. At the total deadline a call's response
+ * is closed, which fails any read in progress; a call still waiting for its response fails as
+ * soon as it arrives. The deadline never releases the permit itself, so a call that overruns
+ * it keeps counting against the limit until its thread is done with it.
+ */
+public class Bulkhead implements ClientHttpRequestInterceptor {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+    private final long totalTimeoutNanos;
+    private final Semaphore permits;
+    private final ScheduledExecutorService deadlines;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong peakInFlight = new AtomicLong();
+
+    /**
+     * @param deadlines Scheduler for the total deadlines, owned by the caller
+     */
+    public Bulkhead(String name, int maxConcurrent, long acquireTimeoutMillis, long totalTimeoutMillis,
+                    ScheduledExecutorService deadlines) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+        this.totalTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(totalTimeoutMillis);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.deadlines = deadlines;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        if (!tryAcquire()) {
+            rejected.increment();
+            throw new BulkheadFullException("Too many concurrent calls to " + name);
+        }
+        peakInFlight.accumulateAndGet(maxConcurrent - permits.availablePermits(), Math::max);
+
+        Call call = new Call(start);
+        try {
+            return call.attach(execution.execute(request, body));
+        } catch (IOException | RuntimeException | Error e) {
+            call.abort();
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Snapshot of the current statistics
+     */
+    public Stats stats() {
+        long callCount = calls.sum();
+        return new Stats(
+                name,
+                maxConcurrent,
+                maxConcurrent - permits.availablePermits(),
+                peakInFlight.get(),
+                permits.getQueueLength(),
+                callCount,
+                failures.sum(),
+                rejected.sum(),
+                callCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.sum() / callCount),
+                TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get())
+        );
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * One call in flight. Returned to the caller in place of the response, so the permit
+     * is released when the caller closes it, or when the request fails before there is one.
+     */
+    private final class Call implements ClientHttpResponse {
+
+        private final long start;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile ScheduledFuture<?> deadline;
+        private volatile ClientHttpResponse response;
+        private volatile boolean expired;
+        private boolean failed;
+
+        Call(long start) {
+            this.start = start;
+            this.deadline = deadlines.schedule(this::expire, start + totalTimeoutNanos - System.nanoTime(),
+                    TimeUnit.NANOSECONDS);
+        }
+
+        ClientHttpResponse attach(ClientHttpResponse response) throws IOException {
+            this.response = response;
+            failed = response.getStatusCode().isError();
+            if (expired) {
+                discard(response);
+                throw deadlineExceeded();
+            }
+            return this;
+        }
+
+        /**
+         * Cut the transfer short; the permit stays with the call until the caller closes it or
+         * {@link #attach} fails, since the calling thread may still be inside the request
+         */
+        private void expire() {
+            expired = true;
+            ClientHttpResponse current = response;
+            if (current != null) {
+                discard(current);
+            }
+        }
+
+        /**
+         * End a call whose request failed, on the calling thread
+         */
+        void abort() {
+            ClientHttpResponse current = response;
+            if (current != null) {
+                discard(current);
+            }
+            finish(true);
+        }
+
+        /**
+         * Close a response without reading the rest of its body
+         */
+        private static void discard(ClientHttpResponse response) {
+            // Closing the response alone would drain the body first; closing the stream stops the transfer
+            try {
+                response.getBody().close();
+            } catch (IOException ignored) {
+                // Nothing left to release
+            }
+            response.close();
+        }
+
+        private void finish(boolean failure) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            ScheduledFuture<?> timer = deadline;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            long latency = System.nanoTime() - start;
+            calls.increment();
+            if (failure) {
+                failures.increment();
+            }
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+            permits.release();
+        }
+
+        private SocketTimeoutException deadlineExceeded() {
+            return new SocketTimeoutException("Call to " + name + " exceeded its deadline of "
+                    + TimeUnit.NANOSECONDS.toMillis(totalTimeoutNanos) + " ms");
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (expired) {
+                throw deadlineExceeded();
+            }
+            return new FilterInputStream(response.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    return checked(() -> super.read());
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return checked(() -> super.read(buffer, offset, length));
+                }
+            };
+        }
+
+        /**
+         * Run a read, reporting a read cut short by the deadline as a timeout rather than an error or end of stream
+         */
+        private int checked(Read read) throws IOException {
+            int result;
+            try {
+                result = read.run();
+            } catch (IOException e) {
+                throw expired ? deadlineExceeded() : e;
+            }
+            if (result < 0 && expired) {
+                throw deadlineExceeded();
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.close();
+            } finally {
+                finish(failed || expired);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        int run() throws IOException;
+    }
+
+    /**
+     * Bulkhead statistics since startup
+     */
+    public record Stats(String name, int maxConcurrent, int inFlight, long peakInFlight, int waiting,
+                        long calls, long failures, long rejected, long averageLatencyMs, long maxLatencyMs) {
+    }
+}
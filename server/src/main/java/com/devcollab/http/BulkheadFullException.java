@@ -0,0 +1,13 @@
+package com.devcollab.http;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown when an outbound call cannot get a bulkhead permit in time
+ */
+public class BulkheadFullException extends RestClientException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
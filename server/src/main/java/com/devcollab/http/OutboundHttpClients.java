@@ -0,0 +1,66 @@
+package com.devcollab.http;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Factory and registry of the HTTP clients used for outbound calls.
+ * Each dependency gets its own keep-alive connection pool, explicit timeouts
+ * and a {@link Bulkhead}, so a slow dependency cannot hold on to every request thread.
+ */
+@Component
+@Slf4j
+public class OutboundHttpClients {
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService deadlines =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("http-deadline-"));
+
+    /**
+     * Create the client for a named dependency
+     */
+    public RestTemplate create(String name, OutboundHttpSettings settings) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.readTimeout());
+
+        Bulkhead bulkhead = new Bulkhead(name, settings.maxConcurrent(), settings.acquireTimeout().toMillis(),
+                settings.totalTimeout().toMillis(), deadlines);
+        bulkheads.put(name, bulkhead);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(bulkhead);
+        log.info("Created HTTP client '{}' (connect {}, read {}, total {}, max concurrent {})", name,
+                settings.connectTimeout(), settings.readTimeout(), settings.totalTimeout(), settings.maxConcurrent());
+        return restTemplate;
+    }
+
+    /**
+     * Statistics of every registered client
+     */
+    public List<Bulkhead.Stats> stats() {
+        return bulkheads.values().stream()
+                .map(Bulkhead::stats)
+                .sorted((a, b) -> a.name().compareTo(b.name()))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlines.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package com.devcollab.http;
+
+import java.time.Duration;
+
+/**
+ * Limits for the HTTP client of one outbound dependency.
+ *
+ * @param connectTimeout Maximum time to establish a connection
+ * @param readTimeout    Maximum time to wait for the response headers once the request is sent
+ * @param maxConcurrent  Maximum number of calls in flight (bulkhead size)
+ * @param acquireTimeout Maximum time to wait for a bulkhead permit before failing fast
+ * @param totalTimeout   Deadline for the whole call, from waiting for a permit to reading the last body byte
+ */
+public record OutboundHttpSettings(Duration connectTimeout, Duration readTimeout,
+                                   int maxConcurrent, Duration acquireTimeout, Duration totalTimeout) {
+}
@@ -0,0 +1,219 @@
+package com.devcollab.loadtest;
+
+import com.devcollab.model.Match;
+import com.devcollab.model.Project;
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import com.devcollab.repository.MatchRepository;
+import com.devcollab.repository.ProjectRepository;
+import com.devcollab.repository.SkillRepository;
+import com.devcollab.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds a deterministic population of users, projects and matches for load tests.
+ * Runs before the application is ready, so the matching indexes are built from the seeded data.
+ * Seeded users log in as {@code loadtest-user-<n>@devcollab.test} with the configured password.
+ * <p>
+ * Seeding tops up what is missing: users and projects that already exist are kept and skipped by
+ * email and title, so re-running after a partial seed or raising the counts does not collide with
+ * the unique email constraint. Other data in the database is left alone.
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String USER_EMAIL_PREFIX = "loadtest-user-";
+    private static final String PROJECT_TITLE_PREFIX = "Load Test Project ";
+    private static final String MATCH_MESSAGE = "Load test match request";
+    private static final int SKILL_COUNT = 200;
+    private static final String[] TIMEZONES = {"UTC", "America/New_York", "America/Los_Angeles",
+            "Europe/Berlin", "Asia/Kolkata", "Asia/Tokyo"};
+    private static final String[] INTERESTS = {"ai", "web", "mobile", "games", "fintech", "health",
+            "iot", "devtools", "education", "security", "data", "cloud", "open-source", "blockchain"};
+
+    private final UserRepository userRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final MatchRepository matchRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${loadtest.seed.users:10000}")
+    private int userCount;
+
+    @Value("${loadtest.seed.projects:2000}")
+    private int projectCount;
+
+    @Value("${loadtest.seed.matches:20000}")
+    private int matchCount;
+
+    @Value("${loadtest.seed.password:loadtest-password}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<User> existingUsers = userRepository.findByEmailStartingWith(USER_EMAIL_PREFIX);
+        List<Project> existingProjects = projectRepository.findByTitleStartingWith(PROJECT_TITLE_PREFIX);
+        long existingMatches = matchRepository.countByMessage(MATCH_MESSAGE);
+        if (existingUsers.size() >= userCount && existingProjects.size() >= projectCount
+                && existingMatches >= matchCount) {
+            log.info("Load test data already present, skipping seed");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Random random = new Random(42);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Skill> skills = transaction.execute(status -> seedSkills());
+        List<User> users = seedUsers(transaction, random, skills, existingUsers);
+        List<Project> projects = seedProjects(transaction, random, skills, users, existingProjects);
+        int matches = seedMatches(transaction, random, users, projects, existingMatches);
+
+        log.info("Seeded {} users, {} projects and {} matches in {} ms",
+                users.size() - existingUsers.size(), projects.size() - existingProjects.size(), matches,
+                System.currentTimeMillis() - start);
+    }
+
+    private List<Skill> seedSkills() {
+        List<Skill> skills = new ArrayList<>(skillRepository.findAll());
+        Skill.SkillCategory[] categories = Skill.SkillCategory.values();
+        List<Skill> created = new ArrayList<>();
+        for (int i = skills.size(); i < SKILL_COUNT; i++) {
+            Skill skill = new Skill();
+            skill.setName("loadtest-skill-" + i);
+            skill.setCategory(categories[i % categories.length]);
+            created.add(skill);
+        }
+        skills.addAll(skillRepository.saveAll(created));
+        return skills;
+    }
+
+    private List<User> seedUsers(TransactionTemplate transaction, Random random, List<Skill> skills,
+                                 List<User> existing) {
+        String encodedPassword = passwordEncoder.encode(password);
+        User.ExperienceLevel[] levels = User.ExperienceLevel.values();
+        Set<String> emails = existing.stream().map(User::getEmail).collect(Collectors.toSet());
+        List<User> users = new ArrayList<>(existing);
+
+        for (int from = 0; from < userCount; from += BATCH_SIZE) {
+            List<User> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(userCount, from + BATCH_SIZE); i++) {
+                String email = USER_EMAIL_PREFIX + i + "@devcollab.test";
+                if (emails.contains(email)) {
+                    continue;
+                }
+                User user = new User();
+                user.setEmail(email);
+                user.setPassword(encodedPassword);
+                user.setFullName("Load Test User " + i);
+                user.setBio("Synthetic developer profile " + i);
+                user.setProvider("local");
+                user.setExperienceLevel(levels[random.nextInt(levels.length)]);
+                user.setTimezone(TIMEZONES[random.nextInt(TIMEZONES.length)]);
+                user.setHoursPerWeek(5 + random.nextInt(8) * 5);
+                user.setSkills(pick(random, skills, 1 + random.nextInt(10)));
+                user.setInterests(pick(random, List.of(INTERESTS), 1 + random.nextInt(4)));
+                batch.add(user);
+            }
+            if (!batch.isEmpty()) {
+                users.addAll(transaction.execute(status -> userRepository.saveAll(batch)));
+            }
+        }
+        return users;
+    }
+
+    private List<Project> seedProjects(TransactionTemplate transaction, Random random,
+                                       List<Skill> skills, List<User> users, List<Project> existing) {
+        Project.ProjectType[] types = Project.ProjectType.values();
+        Project.ProjectStatus[] statuses = Project.ProjectStatus.values();
+        Set<String> titles = existing.stream().map(Project::getTitle).collect(Collectors.toSet());
+        List<Project> projects = new ArrayList<>(existing);
+
+        for (int from = 0; from < projectCount; from += BATCH_SIZE) {
+            List<Project> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(projectCount, from + BATCH_SIZE); i++) {
+                String title = PROJECT_TITLE_PREFIX + i;
+                if (titles.contains(title)) {
+                    continue;
+                }
+                Project project = new Project();
+                project.setTitle(title);
+                project.setDescription("Synthetic project " + i);
+                project.setCreator(users.get(random.nextInt(users.size())));
+                project.setProjectType(types[random.nextInt(types.length)]);
+                project.setStatus(statuses[random.nextInt(statuses.length)]);
+                project.setMaxTeamSize(2 + random.nextInt(6));
+                project.setCurrentTeamSize(1);
+                project.setRequiredSkills(pick(random, skills, 1 + random.nextInt(5)));
+                project.setTags(pick(random, List.of(INTERESTS), 1 + random.nextInt(3)));
+                batch.add(project);
+            }
+            if (!batch.isEmpty()) {
+                projects.addAll(transaction.execute(status -> projectRepository.saveAll(batch)));
+            }
+        }
+        return projects;
+    }
+
+    /**
+     * @return Number of matches created
+     */
+    private int seedMatches(TransactionTemplate transaction, Random random, List<User> users, List<Project> projects,
+                            long existing) {
+        Match.MatchStatus[] statuses = Match.MatchStatus.values();
+        int created = 0;
+
+        for (long from = existing; from < matchCount; from += BATCH_SIZE) {
+            List<Match> batch = new ArrayList<>(BATCH_SIZE);
+            for (long i = from; i < Math.min(matchCount, from + BATCH_SIZE); i++) {
+                User requester = users.get(random.nextInt(users.size()));
+                User recipient = users.get(random.nextInt(users.size()));
+                if (requester == recipient) {
+                    continue;
+                }
+                Match match = new Match();
+                match.setRequester(requester);
+                match.setRecipient(recipient);
+                match.setStatus(statuses[random.nextInt(statuses.length)]);
+                match.setMatchScore((double) random.nextInt(101));
+                match.setMessage(MATCH_MESSAGE);
+                if (!projects.isEmpty() && random.nextInt(4) == 0) {
+                    match.setProject(projects.get(random.nextInt(projects.size())));
+                }
+                batch.add(match);
+            }
+            transaction.executeWithoutResult(status -> matchRepository.saveAll(batch));
+            created += batch.size();
+        }
+        return created;
+    }
+
+    private static <T> Set<T> pick(Random random, List<T> pool, int count) {
+        Set<T> picked = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            picked.add(pool.get(random.nextInt(pool.size())));
+        }
+        return picked;
+    }
+}
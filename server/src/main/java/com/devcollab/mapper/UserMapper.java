@@ -1,10 +1,19 @@
 package com.devcollab.mapper;
 
+import com.devcollab.dto.response.SkillResponse;
 import com.devcollab.dto.response.UserResponse;
 import com.devcollab.model.User;
+import com.devcollab.repository.projection.UserInterestRow;
+import com.devcollab.repository.projection.UserRow;
+import com.devcollab.repository.projection.UserSkillRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -44,4 +53,43 @@ public class UserMapper {
 
         return response;
     }
+
+    /**
+     * Assemble responses from projection rows; skills and interests are matched to their user by ID
+     */
+    public List<UserResponse> toResponses(List<UserRow> users, List<UserSkillRow> skills, List<UserInterestRow> interests) {
+        Map<Long, UserResponse> responses = new LinkedHashMap<>();
+        for (UserRow user : users) {
+            UserResponse response = new UserResponse();
+            response.setId(user.id());
+            response.setEmail(user.email());
+            response.setFullName(user.fullName());
+            response.setBio(user.bio());
+            response.setGithubUsername(user.githubUsername());
+            response.setLinkedinUrl(user.linkedinUrl());
+            response.setTimezone(user.timezone());
+            response.setHoursPerWeek(user.hoursPerWeek());
+            response.setExperienceLevel(user.experienceLevel());
+            response.setInterests(new HashSet<>());
+            response.setSkills(new HashSet<>());
+            response.setActive(user.active());
+            response.setCreatedAt(user.createdAt());
+            response.setUpdatedAt(user.updatedAt());
+            responses.put(user.id(), response);
+        }
+
+        for (UserSkillRow skill : skills) {
+            UserResponse response = responses.get(skill.userId());
+            if (response != null) {
+                response.getSkills().add(new SkillResponse(skill.skillId(), skill.name(), skill.category(), skill.description()));
+            }
+        }
+        for (UserInterestRow interest : interests) {
+            UserResponse response = responses.get(interest.userId());
+            if (response != null) {
+                response.getInterests().add(interest.interest());
+            }
+        }
+        return new ArrayList<>(responses.values());
+    }
 }
@@ -0,0 +1,96 @@
+package com.devcollab.matching;
+
+/**
+ * Primitive bitset helpers over {@code long[]} words.
+ * Arrays may have different lengths; missing words are treated as zero.
+ */
+public final class Bitsets {
+
+    public static final long[] EMPTY = new long[0];
+
+    private Bitsets() {
+    }
+
+    /**
+     * Build a bitset with the given bit positions set
+     */
+    public static long[] of(int[] bits) {
+        int max = -1;
+        for (int bit : bits) {
+            max = Math.max(max, bit);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] words = new long[(max >>> 6) + 1];
+        for (int bit : bits) {
+            if (bit >= 0) {
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Positions of all set bits, in ascending order
+     */
+    public static int[] toArray(long[] words) {
+        int[] bits = new int[cardinality(words)];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                bits[count++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return bits;
+    }
+
+    public static boolean get(long[] words, int bit) {
+        int word = bit >>> 6;
+        return word < words.length && (words[word] & (1L << bit)) != 0;
+    }
+
+    public static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Population count of {@code a AND b}
+     */
+    public static int andCount(long[] a, long[] b) {
+        int n = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    /**
+     * {@code a AND NOT b} as a new bitset
+     */
+    public static long[] andNot(long[] a, long[] b) {
+        long[] words = a.clone();
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            words[i] &= ~b[i];
+        }
+        return words;
+    }
+
+    public static boolean intersects(long[] a, long[] b) {
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
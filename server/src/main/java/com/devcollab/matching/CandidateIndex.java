@@ -0,0 +1,438 @@
+package com.devcollab.matching;
+
+import com.devcollab.event.ProjectChangedEvent;
+import com.devcollab.event.ProjectDeletedEvent;
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.model.User;
+import com.devcollab.repository.ProjectRepository;
+import com.devcollab.repository.UserRepository;
+import com.devcollab.repository.projection.ProjectTitleRow;
+import com.devcollab.service.GeminiService.DeveloperProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Resident index of match features and profiles for every active user.
+ * Loaded once at startup and kept current through user and project events,
+ * so match suggestions can be scored and explained without going to the database.
+ * Events received while a rebuild is loading are replayed onto the rebuilt index.
+ * <p>
+ * Each user occupies a dense int slot. Inverted posting lists map skill ordinals,
+ * interest ordinals and experience levels to sorted slots, so filtered queries
+ * are resolved by union/intersection in time proportional to the matching set.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateIndex {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final MatchScoringEngine scoringEngine;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MatchFeatures[] slots = new MatchFeatures[64];
+    private DeveloperProfile[] profiles = new DeveloperProfile[64];
+    private int slotCount;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> slotByUserId = new HashMap<>();
+
+    private final List<PostingList> bySkill = new ArrayList<>();
+    private final List<PostingList> byInterest = new ArrayList<>();
+    private final PostingList[] byExperienceLevel = new PostingList[User.ExperienceLevel.values().length];
+
+    /**
+     * First created projects of each user, as named in profiles
+     */
+    private final Map<Long, List<ProjectTitleRow>> projectsByCreator = new HashMap<>();
+    private final Map<Long, Long> creatorByProjectId = new HashMap<>();
+
+    /**
+     * Changes applied while a rebuild is loading, replayed onto the rebuilt index; null when no rebuild runs
+     */
+    private List<Runnable> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        log.info("Building candidate index");
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<User> users = userRepository.findByActiveTrue();
+            List<ProjectTitleRow> projectTitles = projectRepository.findAllTitleRows();
+
+            lock.writeLock().lock();
+            try {
+                slots = new MatchFeatures[Math.max(64, users.size())];
+                profiles = new DeveloperProfile[slots.length];
+                slotCount = 0;
+                freeSlots.clear();
+                slotByUserId.clear();
+                bySkill.clear();
+                byInterest.clear();
+                Arrays.fill(byExperienceLevel, null);
+                projectsByCreator.clear();
+                creatorByProjectId.clear();
+
+                for (ProjectTitleRow row : projectTitles) {
+                    addProject(row);
+                }
+                for (User user : users) {
+                    put(scoringEngine.encode(user), DeveloperProfile.of(user, projectTitlesOf(user.getId())));
+                }
+                // What was loaded may predate these changes
+                changesDuringRebuild.forEach(Runnable::run);
+                log.info("Candidate index built with {} users, replayed {} changes",
+                        users.size(), changesDuringRebuild.size());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        User user = event.user();
+        MatchFeatures features = Boolean.TRUE.equals(user.getActive()) ? scoringEngine.encode(user) : null;
+        DeveloperProfile profile = features != null ? DeveloperProfile.of(user, List.of()) : null;
+
+        apply(() -> {
+            remove(user.getId());
+            if (features != null) {
+                put(features, profile.withProjectTitles(projectTitlesOf(user.getId())));
+            }
+        });
+        log.debug("Candidate index {} for user ID: {}", features != null ? "updated" : "entry removed", user.getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long creatorId = event.project().getCreator().getId();
+        List<ProjectTitleRow> projects = projectRepository.findTitleRowsByCreatorId(creatorId);
+        apply(() -> replaceProjects(creatorId, projects));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        Long creatorId;
+        lock.readLock().lock();
+        try {
+            creatorId = creatorByProjectId.get(event.projectId());
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (creatorId == null) {
+            return; // Not among the projects named in a profile
+        }
+        List<ProjectTitleRow> projects = projectRepository.findTitleRowsByCreatorId(creatorId);
+        apply(() -> replaceProjects(creatorId, projects));
+    }
+
+    /**
+     * Get the indexed features of a user, or null if the user is not active
+     */
+    public MatchFeatures get(Long userId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByUserId.get(userId);
+            return slot != null ? slots[slot] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the indexed profile of a user, or null if the user is not active
+     */
+    public DeveloperProfile profile(Long userId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByUserId.get(userId);
+            return slot != null ? profiles[slot] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find all indexed users that satisfy a query.
+     * Skill, interest and experience level clauses are resolved through posting lists;
+     * the availability clause is checked on the resolved set only.
+     */
+    public MatchFeatures[] find(CandidateQuery query) {
+        lock.readLock().lock();
+        try {
+            int[] matched = resolve(query);
+            MatchFeatures[] result = new MatchFeatures[matched == null ? slotByUserId.size() : matched.length];
+            int count = 0;
+            if (matched == null) {
+                for (int slot = 0; slot < slotCount; slot++) {
+                    count = collect(slots[slot], query, result, count);
+                }
+            } else {
+                for (int slot : matched) {
+                    count = collect(slots[slot], query, result, count);
+                }
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find all indexed users sharing at least one skill or interest with the given features,
+     * through the union of their posting lists
+     */
+    public MatchFeatures[] findSharing(MatchFeatures features) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (int ordinal : Bitsets.toArray(features.skillBits())) {
+                addIfPresent(lists, bySkill, ordinal);
+            }
+            for (int ordinal : Bitsets.toArray(features.interestBits())) {
+                addIfPresent(lists, byInterest, ordinal);
+            }
+            if (lists.isEmpty()) {
+                return new MatchFeatures[0];
+            }
+            int[] matched = PostingList.union(lists);
+            MatchFeatures[] result = new MatchFeatures[matched.length];
+            for (int i = 0; i < matched.length; i++) {
+                result[i] = slots[matched[i]];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Check a single candidate against every clause of a query
+     */
+    public boolean matches(MatchFeatures features, CandidateQuery query) {
+        if (query.skillIds() != null && !query.skillIds().isEmpty()
+                && query.skillIds().stream().noneMatch(id -> Bitsets.get(features.skillBits(), scoringEngine.skillOrdinal(id)))) {
+            return false;
+        }
+        if (query.interests() != null && !query.interests().isEmpty()
+                && query.interests().stream().noneMatch(i -> Bitsets.get(features.interestBits(), scoringEngine.interestOrdinal(i)))) {
+            return false;
+        }
+        if (query.experienceLevel() != null && features.experienceLevel() != query.experienceLevel().ordinal()) {
+            return false;
+        }
+        return available(features, query);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolve the indexed clauses of a query to a sorted array of slots
+     * @return Matching slots, or null if the query has no indexed clause
+     */
+    private int[] resolve(CandidateQuery query) {
+        List<int[]> clauses = new ArrayList<>(3);
+
+        if (query.skillIds() != null && !query.skillIds().isEmpty()) {
+            List<PostingList> lists = new ArrayList<>();
+            for (Long skillId : query.skillIds()) {
+                addIfPresent(lists, bySkill, scoringEngine.skillOrdinal(skillId));
+            }
+            clauses.add(lists.isEmpty() ? new int[0] : PostingList.union(lists));
+        }
+        if (query.interests() != null && !query.interests().isEmpty()) {
+            List<PostingList> lists = new ArrayList<>();
+            for (String interest : query.interests()) {
+                addIfPresent(lists, byInterest, scoringEngine.interestOrdinal(interest));
+            }
+            clauses.add(lists.isEmpty() ? new int[0] : PostingList.union(lists));
+        }
+        if (query.experienceLevel() != null) {
+            PostingList list = byExperienceLevel[query.experienceLevel().ordinal()];
+            clauses.add(list != null ? list.toArray() : new int[0]);
+        }
+
+        if (clauses.isEmpty()) {
+            return null;
+        }
+        clauses.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] matched = clauses.get(0);
+        for (int i = 1; i < clauses.size() && matched.length > 0; i++) {
+            matched = PostingList.intersect(matched, clauses.get(i));
+        }
+        return matched;
+    }
+
+    private static int collect(MatchFeatures features, CandidateQuery query, MatchFeatures[] result, int count) {
+        if (features == null) {
+            return count;
+        }
+        if (!available(features, query)) {
+            return count;
+        }
+        result[count] = features;
+        return count + 1;
+    }
+
+    /**
+     * Check the availability clause; users who have not given their hours (-1) never satisfy a minimum
+     */
+    private static boolean available(MatchFeatures features, CandidateQuery query) {
+        return query.minHoursPerWeek() == null
+                || features.hoursPerWeek() >= 0 && features.hoursPerWeek() >= query.minHoursPerWeek();
+    }
+
+    private static void addIfPresent(List<PostingList> target, List<PostingList> postings, int ordinal) {
+        if (ordinal >= 0 && ordinal < postings.size() && postings.get(ordinal) != null) {
+            target.add(postings.get(ordinal));
+        }
+    }
+
+    /**
+     * Apply a change under the write lock, keeping it for replay if a rebuild is loading
+     */
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(MatchFeatures features, DeveloperProfile profile) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.pop();
+        } else {
+            if (slotCount == slots.length) {
+                slots = Arrays.copyOf(slots, slotCount * 2);
+                profiles = Arrays.copyOf(profiles, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        slots[slot] = features;
+        profiles[slot] = profile;
+        slotByUserId.put(features.userId(), slot);
+
+        for (int ordinal : Bitsets.toArray(features.skillBits())) {
+            posting(bySkill, ordinal).add(slot);
+        }
+        for (int ordinal : Bitsets.toArray(features.interestBits())) {
+            posting(byInterest, ordinal).add(slot);
+        }
+        if (features.experienceLevel() >= 0) {
+            if (byExperienceLevel[features.experienceLevel()] == null) {
+                byExperienceLevel[features.experienceLevel()] = new PostingList();
+            }
+            byExperienceLevel[features.experienceLevel()].add(slot);
+        }
+    }
+
+    private void remove(Long userId) {
+        Integer slot = slotByUserId.remove(userId);
+        if (slot == null) {
+            return;
+        }
+        MatchFeatures features = slots[slot];
+        for (int ordinal : Bitsets.toArray(features.skillBits())) {
+            bySkill.get(ordinal).remove(slot);
+        }
+        for (int ordinal : Bitsets.toArray(features.interestBits())) {
+            byInterest.get(ordinal).remove(slot);
+        }
+        if (features.experienceLevel() >= 0) {
+            byExperienceLevel[features.experienceLevel()].remove(slot);
+        }
+        slots[slot] = null;
+        profiles[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Record a project of its creator, unless the profile already names enough projects
+     */
+    private void addProject(ProjectTitleRow row) {
+        List<ProjectTitleRow> projects = projectsByCreator.computeIfAbsent(row.creatorId(), id -> new ArrayList<>(1));
+        if (projects.size() < DeveloperProfile.MAX_PROJECT_TITLES) {
+            projects.add(row);
+            creatorByProjectId.put(row.projectId(), row.creatorId());
+        }
+    }
+
+    /**
+     * Replace the projects of a creator and update the creator's profile
+     */
+    private void replaceProjects(Long creatorId, List<ProjectTitleRow> projects) {
+        List<ProjectTitleRow> previous = projectsByCreator.remove(creatorId);
+        if (previous != null) {
+            previous.forEach(row -> creatorByProjectId.remove(row.projectId()));
+        }
+        projects.forEach(this::addProject);
+
+        Integer slot = slotByUserId.get(creatorId);
+        if (slot != null) {
+            profiles[slot] = profiles[slot].withProjectTitles(projectTitlesOf(creatorId));
+        }
+    }
+
+    private List<String> projectTitlesOf(Long creatorId) {
+        List<ProjectTitleRow> projects = projectsByCreator.get(creatorId);
+        return projects == null ? List.of() : projects.stream().map(ProjectTitleRow::title).toList();
+    }
+
+    private static PostingList posting(List<PostingList> postings, int ordinal) {
+        while (postings.size() <= ordinal) {
+            postings.add(null);
+        }
+        PostingList list = postings.get(ordinal);
+        if (list == null) {
+            list = new PostingList();
+            postings.set(ordinal, list);
+        }
+        return list;
+    }
+}
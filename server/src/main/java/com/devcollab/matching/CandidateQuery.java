@@ -0,0 +1,17 @@
+package com.devcollab.matching;
+
+import com.devcollab.model.User;
+
+import java.util.Set;
+
+/**
+ * Filters applied to the candidate index. Null or empty clauses are ignored.
+ *
+ * @param skillIds        Candidates must have at least one of these skills
+ * @param interests       Candidates must have at least one of these interests
+ * @param experienceLevel Candidates must have exactly this experience level
+ * @param minHoursPerWeek Candidates must be available at least this many hours per week
+ */
+public record CandidateQuery(Set<Long> skillIds, Set<String> interests,
+                             User.ExperienceLevel experienceLevel, Integer minHoursPerWeek) {
+}
@@ -0,0 +1,134 @@
+package com.devcollab.matching;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores candidates against a user and keeps the best K.
+ * <p>
+ * Small candidate sets are scored sequentially on the calling thread. From
+ * {@code matching.parallel.threshold} candidates on, the set is split into partitions
+ * scored on a dedicated fork/join pool; each partition fills its own {@link TopKSelector}
+ * and the partial selections are merged on the way back up.
+ */
+@Component
+@Slf4j
+public class CandidateRanker {
+
+    private final MatchScoringEngine scoringEngine;
+    private final int parallelThreshold;
+    private final int partitionSize;
+    private final ForkJoinPool pool;
+
+    public CandidateRanker(MatchScoringEngine scoringEngine,
+                           @Value("${matching.parallel.threshold:50000}") int parallelThreshold,
+                           @Value("${matching.parallel.partition-size:8192}") int partitionSize,
+                           @Value("${matching.parallel.parallelism:0}") int parallelism) {
+        this.scoringEngine = scoringEngine;
+        this.parallelThreshold = parallelThreshold;
+        this.partitionSize = Math.max(1, partitionSize);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Select the K best candidates with a score above zero, excluding the user itself.
+     * The selection is not finished, so it can still be merged or offered to.
+     */
+    public TopKSelector rank(MatchFeatures user, MatchFeatures[] candidates, int k) {
+        if (candidates.length < parallelThreshold) {
+            return rank(user, candidates, 0, candidates.length, k);
+        }
+        return pool.invoke(new RankTask(user, candidates, 0, candidates.length, k));
+    }
+
+    /**
+     * Select the K candidates covering the largest share of a project's required skills,
+     * excluding the user and the project members. Ties go to the candidate most compatible
+     * with the user; read the coverage with {@link #coverageOf}, the payload is the evaluation.
+     */
+    public TopKSelector rankForProject(MatchFeatures user, ProjectFeatures project, MatchFeatures[] candidates, int k) {
+        TopKSelector topK = new TopKSelector(k);
+        int required = Bitsets.cardinality(project.requiredSkillBits());
+        if (required == 0) {
+            return topK;
+        }
+        for (MatchFeatures candidate : candidates) {
+            if (candidate.userId() == user.userId()
+                    || Arrays.binarySearch(project.memberIds(), candidate.userId()) >= 0) {
+                continue;
+            }
+            int covered = Bitsets.andCount(candidate.skillBits(), project.requiredSkillBits());
+            if (covered > 0) {
+                long evaluation = scoringEngine.evaluate(user, candidate);
+                topK.offer(candidate.userId(), covered * 100 / required << 7 | MatchScoringEngine.scoreOf(evaluation),
+                        evaluation);
+            }
+        }
+        return topK;
+    }
+
+    /**
+     * Percentage of the project's required skills covered, from a {@link #rankForProject} score
+     */
+    public static int coverageOf(int score) {
+        return score >>> 7;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private TopKSelector rank(MatchFeatures user, MatchFeatures[] candidates, int from, int to, int k) {
+        TopKSelector topK = new TopKSelector(k);
+        for (int i = from; i < to; i++) {
+            MatchFeatures candidate = candidates[i];
+            if (candidate.userId() == user.userId()) {
+                continue;
+            }
+            long evaluation = scoringEngine.evaluate(user, candidate);
+            int score = MatchScoringEngine.scoreOf(evaluation);
+            if (score > 0) { // Only include matches with score > 0
+                topK.offer(candidate.userId(), score, evaluation);
+            }
+        }
+        return topK;
+    }
+
+    private final class RankTask extends RecursiveTask<TopKSelector> {
+
+        private final MatchFeatures user;
+        private final MatchFeatures[] candidates;
+        private final int from;
+        private final int to;
+        private final int k;
+
+        RankTask(MatchFeatures user, MatchFeatures[] candidates, int from, int to, int k) {
+            this.user = user;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+        }
+
+        @Override
+        protected TopKSelector compute() {
+            if (to - from <= partitionSize) {
+                return rank(user, candidates, from, to, k);
+            }
+            int middle = (from + to) >>> 1;
+            RankTask left = new RankTask(user, candidates, from, middle, k);
+            left.fork();
+            TopKSelector right = new RankTask(user, candidates, middle, to, k).compute();
+            TopKSelector merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+}
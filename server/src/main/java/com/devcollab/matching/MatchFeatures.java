@@ -0,0 +1,16 @@
+package com.devcollab.matching;
+
+/**
+ * Compact, immutable snapshot of the user attributes that take part in matching.
+ * Skills, interests and timezone are stored as ordinals assigned by {@link MatchScoringEngine}.
+ *
+ * @param userId          User ID
+ * @param experienceLevel Experience level ordinal, or -1 when unset
+ * @param hoursPerWeek    Weekly availability, or -1 when unset
+ * @param timezone        Timezone ordinal, or -1 when unset
+ * @param skillBits       Bitset of skill ordinals
+ * @param interestBits    Bitset of interest ordinals
+ */
+public record MatchFeatures(long userId, int experienceLevel, int hoursPerWeek, int timezone,
+                            long[] skillBits, long[] interestBits) {
+}
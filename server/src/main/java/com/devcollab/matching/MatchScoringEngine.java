@@ -0,0 +1,135 @@
+package com.devcollab.matching;
+
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Compatibility scoring over bitset-encoded match features.
+ * Skill IDs, interests and timezones are interned into dense ordinals so that
+ * shared counts reduce to popcounts and scoring a candidate allocates nothing.
+ */
+@Component
+public class MatchScoringEngine {
+
+    /**
+     * Points awarded by distance between experience level ordinals
+     */
+    private static final int[] EXPERIENCE_LEVEL_POINTS = {40, 30, 20, 10};
+
+    private final OrdinalDictionary<Long> skillOrdinals = new OrdinalDictionary<>();
+    private final OrdinalDictionary<String> interestOrdinals = new OrdinalDictionary<>();
+    private final OrdinalDictionary<String> timezoneOrdinals = new OrdinalDictionary<>();
+
+    /**
+     * Encode a user into match features, interning any skill, interest or timezone not seen before
+     */
+    public MatchFeatures encode(User user) {
+        int[] skills = user.getSkills().stream()
+                .map(Skill::getId)
+                .filter(Objects::nonNull)
+                .mapToInt(skillOrdinals::intern)
+                .toArray();
+        int[] interests = user.getInterests().stream()
+                .filter(Objects::nonNull)
+                .mapToInt(interestOrdinals::intern)
+                .toArray();
+
+        return new MatchFeatures(
+                user.getId(),
+                user.getExperienceLevel() != null ? user.getExperienceLevel().ordinal() : -1,
+                user.getHoursPerWeek() != null ? user.getHoursPerWeek() : -1,
+                user.getTimezone() != null ? timezoneOrdinals.intern(user.getTimezone()) : -1,
+                Bitsets.of(skills),
+                Bitsets.of(interests)
+        );
+    }
+
+    /**
+     * Encode skill IDs into a bitset of skill ordinals, interning any skill not seen before
+     */
+    public long[] encodeSkills(Collection<Long> skillIds) {
+        return Bitsets.of(skillIds.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(skillOrdinals::intern)
+                .toArray());
+    }
+
+    /**
+     * Get the ordinal of a skill ID
+     * @return Ordinal, or -1 if no indexed user has the skill
+     */
+    public int skillOrdinal(Long skillId) {
+        return skillOrdinals.lookup(skillId);
+    }
+
+    /**
+     * Get the ordinal of an interest
+     * @return Ordinal, or -1 if no indexed user has the interest
+     */
+    public int interestOrdinal(String interest) {
+        return interestOrdinals.lookup(interest);
+    }
+
+    /**
+     * Score a candidate against a user in a single pass.
+     * Read the parts of the result with {@link #scoreOf}, {@link #commonSkillsOf} and {@link #commonInterestsOf}.
+     * @param user The current user
+     * @param candidate The candidate user to match with
+     * @return Packed compatibility score (0-100), common skill count and common interest count
+     */
+    public long evaluate(MatchFeatures user, MatchFeatures candidate) {
+        int score = 0;
+
+        // 1. Experience Level Complementarity (40 points)
+        if (user.experienceLevel() >= 0 && candidate.experienceLevel() >= 0) {
+            score += EXPERIENCE_LEVEL_POINTS[Math.min(3, Math.abs(user.experienceLevel() - candidate.experienceLevel()))];
+        }
+
+        // 2. Shared Project Interests (30 points)
+        int sharedInterests = Bitsets.andCount(user.interestBits(), candidate.interestBits());
+        score += Math.min(30, sharedInterests * 10);
+
+        // 3. Availability Match (20 points)
+        if (user.timezone() >= 0 && user.timezone() == candidate.timezone()) {
+            score += 10;
+        }
+        if (user.hoursPerWeek() >= 0 && user.hoursPerWeek() == candidate.hoursPerWeek()) {
+            score += 10;
+        }
+
+        // 4. Skill Overlap (10 points)
+        int sharedSkills = Bitsets.andCount(user.skillBits(), candidate.skillBits());
+        score += Math.min(10, sharedSkills * 2);
+
+        return pack(Math.min(100, score), sharedSkills, sharedInterests);
+    }
+
+    /**
+     * Highest score a candidate sharing no skill or interest with the user can reach
+     */
+    public static int maxScoreWithoutOverlap(MatchFeatures user) {
+        return (user.experienceLevel() >= 0 ? EXPERIENCE_LEVEL_POINTS[0] : 0)
+                + (user.timezone() >= 0 ? 10 : 0)
+                + (user.hoursPerWeek() >= 0 ? 10 : 0);
+    }
+
+    private static long pack(int score, int commonSkills, int commonInterests) {
+        return (long) score | ((long) commonSkills << 8) | ((long) commonInterests << 32);
+    }
+
+    public static int scoreOf(long evaluation) {
+        return (int) (evaluation & 0xFF);
+    }
+
+    public static int commonSkillsOf(long evaluation) {
+        return (int) ((evaluation >>> 8) & 0xFFFFFF);
+    }
+
+    public static int commonInterestsOf(long evaluation) {
+        return (int) (evaluation >>> 32);
+    }
+}
@@ -0,0 +1,40 @@
+package com.devcollab.matching;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe dictionary that interns keys into dense, stable ordinals (0, 1, 2, ...)
+ *
+ * @param <K> Key type
+ */
+public class OrdinalDictionary<K> {
+
+    private final Map<K, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    /**
+     * Get the ordinal of a key, assigning a new one if it has not been seen before
+     */
+    public int intern(K key) {
+        Integer ordinal = ordinals.get(key);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return ordinals.computeIfAbsent(key, k -> nextOrdinal.getAndIncrement());
+    }
+
+    /**
+     * Get the ordinal of a key without assigning one
+     * @return Ordinal, or -1 if the key is unknown
+     */
+    public int lookup(K key) {
+        Integer ordinal = ordinals.get(key);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public int size() {
+        return nextOrdinal.get();
+    }
+}
@@ -0,0 +1,275 @@
+package com.devcollab.matching;
+
+import com.devcollab.event.ProjectChangedEvent;
+import com.devcollab.event.ProjectDeletedEvent;
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.model.Project;
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import com.devcollab.repository.ProjectRepository;
+import com.devcollab.repository.projection.ProjectMemberRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Resident index of the projects accepting members, for recommending projects to users.
+ * <p>
+ * Each project keeps the bitset of its required skills that no member has yet. Member skills
+ * are cached here too, so a profile change only recomputes the projects of that member.
+ * Ranking a user against every open project is then one popcount per project.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectCandidateIndex {
+
+    private final ProjectRepository projectRepository;
+    private final CandidateIndex candidateIndex;
+    private final MatchScoringEngine scoringEngine;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, ProjectFeatures> projects = new HashMap<>();
+    private final Map<Long, long[]> memberSkills = new HashMap<>();
+    private final Map<Long, Set<Long>> projectsByMember = new HashMap<>();
+
+    /**
+     * Built after the {@link CandidateIndex}, which provides the member skills
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Project> open = projectRepository.findProjectsAcceptingMembers();
+        Map<Long, List<Long>> members = new HashMap<>();
+        for (ProjectMemberRow row : projectRepository.findMemberRowsOfProjectsAcceptingMembers()) {
+            members.computeIfAbsent(row.projectId(), id -> new ArrayList<>()).add(row.userId());
+        }
+
+        lock.writeLock().lock();
+        try {
+            projects.clear();
+            memberSkills.clear();
+            projectsByMember.clear();
+            for (Project project : open) {
+                put(project.getId(), requiredSkillBits(project),
+                        memberIds(project.getCreator().getId(), members.getOrDefault(project.getId(), List.of())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} open projects for recommendations in {} ms", open.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Project project = event.project();
+        boolean accepting = Boolean.TRUE.equals(project.getIsOpen()) && project.getCurrentTeamSize() != null
+                && project.getMaxTeamSize() != null && project.getCurrentTeamSize() < project.getMaxTeamSize();
+        long[] memberIds = accepting ? memberIds(project) : null;
+
+        lock.writeLock().lock();
+        try {
+            remove(project.getId());
+            if (accepting) {
+                put(project.getId(), requiredSkillBits(project), memberIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.projectId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        User user = event.user();
+        long[] skills = Boolean.TRUE.equals(user.getActive()) ? scoringEngine.encode(user).skillBits() : Bitsets.EMPTY;
+
+        lock.writeLock().lock();
+        try {
+            Set<Long> projectIds = projectsByMember.get(user.getId());
+            if (projectIds == null) {
+                return;
+            }
+            memberSkills.put(user.getId(), skills);
+            for (Long projectId : projectIds) {
+                ProjectFeatures features = projects.get(projectId);
+                projects.put(projectId, new ProjectFeatures(projectId, features.requiredSkillBits(),
+                        missingSkillBits(features.requiredSkillBits(), features.memberIds()), features.memberIds()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Encode any project, open or not, from its loaded entity
+     */
+    public ProjectFeatures encode(Project project) {
+        long[] required = requiredSkillBits(project);
+        long[] memberIds = memberIds(project.getCreator().getId(),
+                project.getTeamMembers().stream().map(User::getId).toList());
+        lock.readLock().lock();
+        try {
+            return new ProjectFeatures(project.getId(), required, missingSkillBits(required, memberIds), memberIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the indexed features of a project, or null if it is not accepting members
+     */
+    public ProjectFeatures get(Long projectId) {
+        lock.readLock().lock();
+        try {
+            return projects.get(projectId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Select the K open projects whose missing skills the user fills best.
+     * Projects the user is a member of and projects the user adds nothing to are skipped.
+     * Scores rank by the number of missing skills filled, then by the share of them;
+     * read the parts with {@link #coverageOf}, {@link #filledOf} and {@link #missingOf}.
+     */
+    public TopKSelector rank(MatchFeatures user, int k) {
+        TopKSelector topK = new TopKSelector(k);
+        lock.readLock().lock();
+        try {
+            for (ProjectFeatures project : projects.values()) {
+                if (Arrays.binarySearch(project.memberIds(), user.userId()) >= 0) {
+                    continue;
+                }
+                int filled = Bitsets.andCount(user.skillBits(), project.missingSkillBits());
+                if (filled > 0) {
+                    int missing = Bitsets.cardinality(project.missingSkillBits());
+                    topK.offer(project.projectId(), filled << 7 | filled * 100 / missing,
+                            (long) filled | (long) missing << 32);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return topK;
+    }
+
+    /**
+     * Percentage of the project's missing skills the user fills
+     */
+    public static int coverageOf(int score) {
+        return score & 0x7F;
+    }
+
+    public static int filledOf(long payload) {
+        return (int) payload;
+    }
+
+    public static int missingOf(long payload) {
+        return (int) (payload >>> 32);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return projects.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long projectId, long[] required, long[] memberIds) {
+        for (long memberId : memberIds) {
+            projectsByMember.computeIfAbsent(memberId, id -> new HashSet<>()).add(projectId);
+            if (!memberSkills.containsKey(memberId)) {
+                // Members missing from the candidate index are not cached, so they are looked up again
+                MatchFeatures features = candidateIndex.get(memberId);
+                if (features != null) {
+                    memberSkills.put(memberId, features.skillBits());
+                }
+            }
+        }
+        projects.put(projectId, new ProjectFeatures(projectId, required, missingSkillBits(required, memberIds), memberIds));
+    }
+
+    private void remove(Long projectId) {
+        ProjectFeatures features = projects.remove(projectId);
+        if (features == null) {
+            return;
+        }
+        for (long memberId : features.memberIds()) {
+            Set<Long> projectIds = projectsByMember.get(memberId);
+            projectIds.remove(projectId);
+            if (projectIds.isEmpty()) {
+                projectsByMember.remove(memberId);
+                memberSkills.remove(memberId);
+            }
+        }
+    }
+
+    private long[] missingSkillBits(long[] required, long[] memberIds) {
+        long[] missing = required;
+        for (long memberId : memberIds) {
+            long[] skills = memberSkills.get(memberId);
+            missing = Bitsets.andNot(missing, skills != null ? skills : indexedSkills(memberId));
+        }
+        return missing;
+    }
+
+    private long[] indexedSkills(long userId) {
+        MatchFeatures features = candidateIndex.get(userId);
+        return features != null ? features.skillBits() : Bitsets.EMPTY;
+    }
+
+    private long[] requiredSkillBits(Project project) {
+        return scoringEngine.encodeSkills(project.getRequiredSkills().stream().map(Skill::getId).toList());
+    }
+
+    /**
+     * Members of a changed project; the team is only read from the entity if it was loaded
+     */
+    private long[] memberIds(Project project) {
+        if (Hibernate.isInitialized(project.getTeamMembers())) {
+            return memberIds(project.getCreator().getId(), project.getTeamMembers().stream().map(User::getId).toList());
+        }
+        return memberIds(project.getCreator().getId(), projectRepository.findMemberRowsByProjectId(project.getId())
+                .stream().map(ProjectMemberRow::userId).toList());
+    }
+
+    private static long[] memberIds(Long creatorId, Collection<Long> teamMemberIds) {
+        return Stream.concat(Stream.of(creatorId), teamMemberIds.stream())
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+}
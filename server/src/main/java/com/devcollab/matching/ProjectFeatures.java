@@ -0,0 +1,13 @@
+package com.devcollab.matching;
+
+/**
+ * Compact, immutable snapshot of an open project's staffing needs.
+ * Skills are stored as ordinals assigned by {@link MatchScoringEngine}.
+ *
+ * @param projectId         Project ID
+ * @param requiredSkillBits Bitset of the required skill ordinals
+ * @param missingSkillBits  Bitset of the required skills no current member has
+ * @param memberIds         IDs of the creator and team members, sorted
+ */
+public record ProjectFeatures(long projectId, long[] requiredSkillBits, long[] missingSkillBits, long[] memberIds) {
+}
@@ -0,0 +1,236 @@
+package com.devcollab.matching;
+
+import com.devcollab.event.UserProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Precomputed top-N candidates for every active user.
+ * <p>
+ * Lists are built in the background from the {@link CandidateIndex}. When a profile changes,
+ * the changed user's own list is dropped right away, and the next refresh patches every
+ * other list with that user's new score. A list is recomputed in full only when a patch
+ * cannot be applied exactly, e.g. when a member's score drops and the list was truncated.
+ * <p>
+ * A list is ranked from the users sharing a skill or interest with its owner, found through the
+ * index's posting lists; everyone else is scored only when they could still make the list.
+ * Beyond {@code matching.recommendations.max-users} active users no lists are kept at all,
+ * and suggestions are ranked from the index on every request.
+ */
+@Component
+@Slf4j
+public class RecommendationStore {
+
+    private final CandidateIndex candidateIndex;
+    private final MatchScoringEngine scoringEngine;
+    private final CandidateRanker candidateRanker;
+    private final int capacity;
+    private final int maxUsers;
+
+    private final Map<Long, Recommendations> lists = new ConcurrentHashMap<>();
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuildRequested;
+    private boolean disabled; // Only read and written by refresh
+
+    public RecommendationStore(CandidateIndex candidateIndex, MatchScoringEngine scoringEngine,
+                               CandidateRanker candidateRanker,
+                               @Value("${matching.recommendations.size:100}") int capacity,
+                               @Value("${matching.recommendations.max-users:50000}") int maxUsers) {
+        this.candidateIndex = candidateIndex;
+        this.scoringEngine = scoringEngine;
+        this.candidateRanker = candidateRanker;
+        this.capacity = capacity;
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * Get the precomputed candidates of a user, best first
+     * @return Ranked candidate IDs, or null if the list is not available yet
+     */
+    public long[] get(Long userId) {
+        Recommendations recommendations = lists.get(userId);
+        return recommendations != null ? recommendations.ids() : null;
+    }
+
+    /**
+     * Maximum number of candidates kept per user; a list of this length may be truncated
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return lists.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestRebuild() {
+        rebuildRequested = true;
+    }
+
+    /**
+     * Runs after {@link CandidateIndex#onUserProfileChanged}, so the next refresh sees the new features
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        lists.remove(event.user().getId());
+        changedUsers.add(event.user().getId());
+    }
+
+    @Scheduled(fixedDelayString = "${matching.recommendations.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (candidateIndex.size() > maxUsers) {
+            if (!disabled) {
+                log.warn("More than {} active users, precomputed recommendations are disabled", maxUsers);
+                disabled = true;
+                lists.clear();
+            }
+            changedUsers.clear();
+            return;
+        }
+        if (disabled) {
+            disabled = false;
+            rebuildRequested = true;
+        }
+        if (rebuildRequested) {
+            rebuildRequested = false;
+            changedUsers.clear();
+            rebuildAll();
+            return;
+        }
+        if (changedUsers.isEmpty()) {
+            return;
+        }
+
+        Set<Long> recompute = new HashSet<>();
+        for (Long userId : Set.copyOf(changedUsers)) {
+            changedUsers.remove(userId);
+            MatchFeatures changed = candidateIndex.get(userId);
+            lists.forEach((ownerId, recommendations) -> {
+                if (!ownerId.equals(userId) && !patch(ownerId, recommendations, userId, changed)) {
+                    recompute.add(ownerId);
+                }
+            });
+            if (changed != null) {
+                recompute.add(userId);
+            }
+        }
+        for (Long userId : recompute) {
+            compute(userId);
+        }
+        log.debug("Refreshed recommendations: {} lists recomputed", recompute.size());
+    }
+
+    private void rebuildAll() {
+        long start = System.currentTimeMillis();
+        MatchFeatures[] users = candidateIndex.find(new CandidateQuery(null, null, null, null));
+        lists.clear();
+        for (MatchFeatures user : users) {
+            lists.put(user.userId(), rank(user, () -> users));
+        }
+        log.info("Precomputed recommendations for {} users in {} ms", users.length, System.currentTimeMillis() - start);
+    }
+
+    private void compute(Long userId) {
+        MatchFeatures user = candidateIndex.get(userId);
+        if (user == null) {
+            lists.remove(userId);
+            return;
+        }
+        lists.put(userId, rank(user, () -> candidateIndex.find(new CandidateQuery(null, null, null, null))));
+    }
+
+    /**
+     * Rank the users sharing a skill or interest with the owner, and fall back to everyone
+     * unless the list is full of scores that no other user can reach
+     */
+    private Recommendations rank(MatchFeatures user, Supplier<MatchFeatures[]> everyone) {
+        TopKSelector topK = candidateRanker.rank(user, candidateIndex.findSharing(user), capacity);
+        topK.finish();
+        int bound = MatchScoringEngine.maxScoreWithoutOverlap(user);
+        if (capacity > 0 && bound > 0 && (topK.size() < capacity || topK.score(capacity - 1) <= bound)) {
+            topK = candidateRanker.rank(user, everyone.get(), capacity);
+        }
+        return Recommendations.of(topK);
+    }
+
+    /**
+     * Apply a changed candidate to an existing list
+     * @return false if the list has to be recomputed instead
+     */
+    private boolean patch(Long ownerId, Recommendations recommendations, long changedId, MatchFeatures changed) {
+        MatchFeatures owner = candidateIndex.get(ownerId);
+        if (owner == null) {
+            lists.remove(ownerId, recommendations);
+            return true;
+        }
+        int score = changed != null ? MatchScoringEngine.scoreOf(scoringEngine.evaluate(owner, changed)) : 0;
+        int position = recommendations.indexOf(changedId);
+        boolean truncated = recommendations.ids().length == capacity;
+
+        if (position < 0 && (score == 0 || (truncated && !recommendations.admits(changedId, score)))) {
+            return true; // Still not among the best
+        }
+        if (position >= 0 && score < recommendations.scores()[position] && truncated) {
+            return false; // Whoever should take its place is unknown
+        }
+
+        TopKSelector topK = new TopKSelector(capacity);
+        for (int i = 0; i < recommendations.ids().length; i++) {
+            if (i != position) {
+                topK.offer(recommendations.ids()[i], recommendations.scores()[i], 0);
+            }
+        }
+        if (score > 0) {
+            topK.offer(changedId, score, 0);
+        }
+        // Leave the list alone if the owner changed meanwhile; it is recomputed on the next refresh
+        lists.replace(ownerId, recommendations, Recommendations.of(topK));
+        return true;
+    }
+
+    private record Recommendations(long[] ids, int[] scores) {
+
+        static Recommendations of(TopKSelector topK) {
+            topK.finish();
+            long[] ids = new long[topK.size()];
+            int[] scores = new int[topK.size()];
+            for (int rank = 0; rank < topK.size(); rank++) {
+                ids[rank] = topK.id(rank);
+                scores[rank] = topK.score(rank);
+            }
+            return new Recommendations(ids, scores);
+        }
+
+        int indexOf(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Whether an entry would rank above the current last entry
+         */
+        boolean admits(long id, int score) {
+            int last = ids.length - 1;
+            return score > scores[last] || (score == scores[last] && id < ids[last]);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.devcollab.matching;
+
+/**
+ * Bounded top-K selection over primitive (id, score, payload) entries.
+ * Keeps a min-heap of the K best entries seen so far; higher scores rank first and
+ * ties go to the lower id. After {@link #finish()} entries are readable best-first.
+ */
+public final class TopKSelector {
+
+    private final int k;
+    private final long[] ids;
+    private final int[] scores;
+    private final long[] payloads;
+    private int size;
+    private boolean finished;
+
+    public TopKSelector(int k) {
+        this.k = Math.max(0, k);
+        this.ids = new long[this.k];
+        this.scores = new int[this.k];
+        this.payloads = new long[this.k];
+    }
+
+    public void offer(long id, int score, long payload) {
+        if (k == 0) {
+            return;
+        }
+        if (size < k) {
+            ids[size] = id;
+            scores[size] = score;
+            payloads[size] = payload;
+            siftUp(size++);
+        } else if (better(score, id, scores[0], ids[0])) {
+            ids[0] = id;
+            scores[0] = score;
+            payloads[0] = payload;
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * Offer every entry of another (unfinished) selector to this one
+     */
+    public void merge(TopKSelector other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.ids[i], other.scores[i], other.payloads[i]);
+        }
+    }
+
+    /**
+     * Sort the selected entries best-first; no further offers are accepted afterwards
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        // Heap sort: repeatedly move the worst remaining entry to the end
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        finished = true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int rank) {
+        return ids[rank];
+    }
+
+    public int score(int rank) {
+        return scores[rank];
+    }
+
+    public long payload(int rank) {
+        return payloads[rank];
+    }
+
+    private static boolean better(int score, long id, int otherScore, long otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(scores[parent], ids[parent], scores[index], ids[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index, int limit) {
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < limit && better(scores[worst], ids[worst], scores[left], ids[left])) {
+                worst = left;
+            }
+            if (right < limit && better(scores[worst], ids[worst], scores[right], ids[right])) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        int score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long payload = payloads[a];
+        payloads[a] = payloads[b];
+        payloads[b] = payload;
+    }
+}
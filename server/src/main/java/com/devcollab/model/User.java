@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -87,6 +88,10 @@ public class User {
     @Column(nullable = false)
     private Boolean active = true;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer tokenVersion = 0; // Bumped to revoke every access token issued before
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -2,6 +2,7 @@ package com.devcollab.repository;
 
 import com.devcollab.model.Match;
 import com.devcollab.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,8 +25,14 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
 
     List<Match> findByRecipientId(Long recipientId);
 
+    List<Match> findByRequesterIdAndIdGreaterThanOrderByIdAsc(Long requesterId, Long afterId, Limit limit);
+
+    List<Match> findByRecipientIdAndIdGreaterThanOrderByIdAsc(Long recipientId, Long afterId, Limit limit);
+
     List<Match> findByStatus(Match.MatchStatus status);
 
+    long countByMessage(String message);
+
     @Query("SELECT m FROM Match m WHERE m.recipient.id = :userId AND m.status = :status")
     List<Match> findReceivedMatchesByStatus(@Param("userId") Long userId, @Param("status") Match.MatchStatus status);
 
@@ -2,6 +2,12 @@ package com.devcollab.repository;
 
 import com.devcollab.model.Project;
 import com.devcollab.model.User;
+import com.devcollab.repository.projection.ProjectMemberRow;
+import com.devcollab.repository.projection.ProjectRow;
+import com.devcollab.repository.projection.ProjectSkillRow;
+import com.devcollab.repository.projection.ProjectTagRow;
+import com.devcollab.repository.projection.ProjectTitleRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,8 +25,12 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     List<Project> findByCreatorId(Long creatorId);
 
+    List<Project> findByTitleStartingWith(String prefix);
+
     List<Project> findByIsOpenTrue();
 
+    List<Project> findByIsOpenTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
     List<Project> findByProjectType(Project.ProjectType projectType);
 
     List<Project> findByStatus(Project.ProjectStatus status);
@@ -36,4 +46,35 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     @Query("SELECT p FROM Project p WHERE p.isOpen = true AND p.currentTeamSize < p.maxTeamSize")
     List<Project> findProjectsAcceptingMembers();
+
+    @Query("SELECT new com.devcollab.repository.projection.ProjectMemberRow(p.id, m.id) FROM Project p " +
+            "JOIN p.teamMembers m WHERE p.isOpen = true AND p.currentTeamSize < p.maxTeamSize")
+    List<ProjectMemberRow> findMemberRowsOfProjectsAcceptingMembers();
+
+    @Query("SELECT new com.devcollab.repository.projection.ProjectMemberRow(p.id, m.id) FROM Project p " +
+            "JOIN p.teamMembers m WHERE p.id = :projectId")
+    List<ProjectMemberRow> findMemberRowsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.devcollab.repository.projection.ProjectRow(p.id, p.title, p.description, " +
+            "p.projectType, p.status, p.isOpen, p.maxTeamSize, p.currentTeamSize) FROM Project p")
+    List<ProjectRow> findAllRows();
+
+    @Query("SELECT new com.devcollab.repository.projection.ProjectTagRow(p.id, t) FROM Project p JOIN p.tags t")
+    List<ProjectTagRow> findAllTagRows();
+
+    @Query("SELECT new com.devcollab.repository.projection.ProjectSkillRow(p.id, s.id) " +
+            "FROM Project p JOIN p.requiredSkills s")
+    List<ProjectSkillRow> findAllSkillRows();
+
+    @Query("SELECT new com.devcollab.repository.projection.ProjectTitleRow(p.id, p.creator.id, p.title) " +
+            "FROM Project p ORDER BY p.id")
+    List<ProjectTitleRow> findAllTitleRows();
+
+    @Query("SELECT new com.devcollab.repository.projection.ProjectTitleRow(p.id, p.creator.id, p.title) " +
+            "FROM Project p WHERE p.creator.id = :creatorId ORDER BY p.id")
+    List<ProjectTitleRow> findTitleRowsByCreatorId(@Param("creatorId") Long creatorId);
+
+    @Query("SELECT p FROM Project p WHERE p.isOpen = true AND p.currentTeamSize < p.maxTeamSize " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<Project> findProjectsAcceptingMembers(@Param("afterId") Long afterId, Limit limit);
 }
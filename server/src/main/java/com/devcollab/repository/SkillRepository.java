@@ -1,9 +1,14 @@
 package com.devcollab.repository;
 
 import com.devcollab.model.Skill;
+import com.devcollab.repository.projection.SkillUsage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +22,20 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
 
     boolean existsByName(String name);
 
+    List<Skill> findByNameIn(Collection<String> names);
+
+    /**
+     * Insert the skills that do not exist yet, leaving names taken by concurrent inserts alone
+     */
+    @Modifying
+    @Query(value = "INSERT INTO skills (name, category) SELECT unnest(CAST(:names AS text[])), :category " +
+            "ON CONFLICT (name) DO NOTHING", nativeQuery = true)
+    int insertMissing(@Param("names") String[] names, @Param("category") String category);
+
+    @Query("SELECT new com.devcollab.repository.projection.SkillUsage(s.id, COUNT(u)) " +
+            "FROM User u JOIN u.skills s WHERE u.active = true GROUP BY s.id")
+    List<SkillUsage> countUsersBySkill();
+
     List<Skill> findByCategory(Skill.SkillCategory category);
 
     List<Skill> findByNameContainingIgnoreCase(String name);
@@ -1,11 +1,17 @@
 package com.devcollab.repository;
 
 import com.devcollab.model.User;
+import com.devcollab.repository.projection.UserInterestRow;
+import com.devcollab.repository.projection.UserRow;
+import com.devcollab.repository.projection.UserSkillRow;
+import com.devcollab.security.UserTokenState;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,12 +25,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
+    List<User> findByEmailStartingWith(String prefix);
+
     Optional<User> findByGithubUsername(String githubUsername);
     
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
 
     List<User> findByActiveTrue();
 
+    @Query("SELECT new com.devcollab.repository.projection.UserRow(u.id, u.email, u.fullName, u.bio, " +
+            "u.githubUsername, u.linkedinUrl, u.timezone, u.hoursPerWeek, u.experienceLevel, u.active, " +
+            "u.createdAt, u.updatedAt) FROM User u WHERE u.active = true AND u.id > :afterId ORDER BY u.id")
+    List<UserRow> findActiveUserRows(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new com.devcollab.repository.projection.UserSkillRow(u.id, s.id, s.name, s.category, s.description) " +
+            "FROM User u JOIN u.skills s WHERE u.id IN :userIds")
+    List<UserSkillRow> findSkillRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new com.devcollab.repository.projection.UserInterestRow(u.id, i) " +
+            "FROM User u JOIN u.interests i WHERE u.id IN :userIds")
+    List<UserInterestRow> findInterestRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT u FROM User u JOIN u.skills s WHERE s.id IN :skillIds AND u.active = true")
     List<User> findBySkillIds(@Param("skillIds") List<Long> skillIds);
 
@@ -33,4 +54,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u WHERE u.timezone = :timezone AND u.active = true")
     List<User> findByTimezone(@Param("timezone") String timezone);
+
+    @Query("SELECT new com.devcollab.security.UserTokenState(u.id, u.tokenVersion, u.active) FROM User u " +
+            "WHERE u.tokenVersion > 0 OR u.active = false")
+    List<UserTokenState> findRevocationStates();
 }
@@ -0,0 +1,7 @@
+package com.devcollab.repository.projection;
+
+/**
+ * One team member of a project
+ */
+public record ProjectMemberRow(Long projectId, Long userId) {
+}
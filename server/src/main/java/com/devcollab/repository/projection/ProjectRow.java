@@ -0,0 +1,18 @@
+package com.devcollab.repository.projection;
+
+import com.devcollab.model.Project;
+
+/**
+ * Scalar columns of a project used by the in-memory indexes
+ */
+public record ProjectRow(
+        Long id,
+        String title,
+        String description,
+        Project.ProjectType projectType,
+        Project.ProjectStatus status,
+        Boolean open,
+        Integer maxTeamSize,
+        Integer currentTeamSize
+) {
+}
@@ -0,0 +1,7 @@
+package com.devcollab.repository.projection;
+
+/**
+ * One required skill of a project
+ */
+public record ProjectSkillRow(Long projectId, Long skillId) {
+}
@@ -0,0 +1,7 @@
+package com.devcollab.repository.projection;
+
+/**
+ * One tag of a project
+ */
+public record ProjectTagRow(Long projectId, String tag) {
+}
@@ -0,0 +1,7 @@
+package com.devcollab.repository.projection;
+
+/**
+ * Title of a project, with its creator
+ */
+public record ProjectTitleRow(Long projectId, Long creatorId, String title) {
+}
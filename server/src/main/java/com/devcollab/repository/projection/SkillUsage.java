@@ -0,0 +1,7 @@
+package com.devcollab.repository.projection;
+
+/**
+ * Number of active users that have a skill
+ */
+public record SkillUsage(Long skillId, Long users) {
+}
@@ -0,0 +1,7 @@
+package com.devcollab.repository.projection;
+
+/**
+ * One interest of a user
+ */
+public record UserInterestRow(Long userId, String interest) {
+}
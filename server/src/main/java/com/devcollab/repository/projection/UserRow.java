@@ -0,0 +1,24 @@
+package com.devcollab.repository.projection;
+
+import com.devcollab.model.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar columns of a user as shown in responses, loaded without the entity's collections
+ */
+public record UserRow(
+        Long id,
+        String email,
+        String fullName,
+        String bio,
+        String githubUsername,
+        String linkedinUrl,
+        String timezone,
+        Integer hoursPerWeek,
+        User.ExperienceLevel experienceLevel,
+        Boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
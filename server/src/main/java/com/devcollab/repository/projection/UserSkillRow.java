@@ -0,0 +1,9 @@
+package com.devcollab.repository.projection;
+
+import com.devcollab.model.Skill;
+
+/**
+ * One skill of a user
+ */
+public record UserSkillRow(Long userId, Long skillId, String name, Skill.SkillCategory category, String description) {
+}
@@ -0,0 +1,292 @@
+package com.devcollab.search;
+
+import com.devcollab.event.ProjectChangedEvent;
+import com.devcollab.event.ProjectDeletedEvent;
+import com.devcollab.matching.TopKSelector;
+import com.devcollab.model.Project;
+import com.devcollab.model.Skill;
+import com.devcollab.repository.ProjectRepository;
+import com.devcollab.repository.projection.ProjectRow;
+import com.devcollab.repository.projection.ProjectSkillRow;
+import com.devcollab.repository.projection.ProjectTagRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process ranked full-text index over project titles, descriptions and tags.
+ * <p>
+ * Each term maps to the projects containing it with a precomputed weight: term frequency per
+ * field, saturated and boosted by field (title over tags over description). A query matches
+ * projects containing all of its terms, ranked by the sum of weight times inverse document
+ * frequency. The index is built at startup and kept current from project change events.
+ */
+@Component
+@Slf4j
+public class ProjectSearchIndex {
+
+    /**
+     * Deepest result reachable by paging; ranking cost grows with it
+     */
+    public static final int MAX_RESULTS = 1000;
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TAG_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float SCORE_SCALE = 1000f;
+
+    private final ProjectRepository projectRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    public ProjectSearchIndex(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Filters applied to matching projects; null criteria match everything
+     */
+    public record Filters(Project.ProjectType projectType, Project.ProjectStatus status,
+                          Set<Long> anySkillIds, Boolean open) {
+    }
+
+    /**
+     * Project IDs of one page of results, best first
+     */
+    public record Hits(List<Long> ids, boolean hasMore) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Long, Set<String>> tags = new HashMap<>();
+        for (ProjectTagRow row : projectRepository.findAllTagRows()) {
+            tags.computeIfAbsent(row.projectId(), id -> new HashSet<>()).add(row.tag());
+        }
+        Map<Long, Set<Long>> skills = new HashMap<>();
+        for (ProjectSkillRow row : projectRepository.findAllSkillRows()) {
+            skills.computeIfAbsent(row.projectId(), id -> new HashSet<>()).add(row.skillId());
+        }
+        List<ProjectRow> rows = projectRepository.findAllRows();
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            for (ProjectRow row : rows) {
+                add(row.id(), row.title(), row.description(), tags.getOrDefault(row.id(), Set.of()),
+                        row.projectType(), row.status(), Boolean.TRUE.equals(row.open()),
+                        skills.getOrDefault(row.id(), Set.of()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} projects for search in {} ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Project project = event.project();
+        Set<Long> skillIds = new HashSet<>();
+        for (Skill skill : project.getRequiredSkills()) {
+            skillIds.add(skill.getId());
+        }
+        Set<String> tags = project.getTags() != null ? Set.copyOf(project.getTags()) : Set.of();
+
+        lock.writeLock().lock();
+        try {
+            remove(project.getId());
+            add(project.getId(), project.getTitle(), project.getDescription(), tags, project.getProjectType(),
+                    project.getStatus(), Boolean.TRUE.equals(project.getIsOpen()), skillIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.projectId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find projects matching every word of the query and the filters.
+     * Without query words, matching projects are returned newest first.
+     */
+    public Hits search(String query, Filters filters, int offset, int limit) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(tokenize(query)));
+        int wanted = Math.min(offset + limit, MAX_RESULTS);
+        if (offset >= wanted) {
+            return new Hits(List.of(), false);
+        }
+
+        TopKSelector topK = new TopKSelector(wanted + 1);
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                for (Document document : documents.values()) {
+                    if (document.matches(filters)) {
+                        // Same score for all, so ties order by ID; negated to put the newest first
+                        topK.offer(-document.id(), 0, 0);
+                    }
+                }
+            } else {
+                rank(terms, filters, topK);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        topK.finish();
+        List<Long> ids = new ArrayList<>(Math.max(0, Math.min(topK.size(), wanted) - offset));
+        for (int rank = offset; rank < Math.min(topK.size(), wanted); rank++) {
+            ids.add(terms.isEmpty() ? -topK.id(rank) : topK.id(rank));
+        }
+        return new Hits(ids, topK.size() > wanted && wanted < MAX_RESULTS);
+    }
+
+    private void rank(List<String> terms, Filters filters, TopKSelector topK) {
+        List<Map<Long, Float>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Float> list = postings.get(term);
+            if (list == null) {
+                return; // Some word matches nothing
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        float[] idf = new float[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            idf[i] = (float) Math.log(1 + (documents.size() - lists.get(i).size() + 0.5) / (lists.get(i).size() + 0.5));
+        }
+
+        candidates:
+        for (Map.Entry<Long, Float> entry : lists.get(0).entrySet()) {
+            float score = idf[0] * entry.getValue();
+            for (int i = 1; i < lists.size(); i++) {
+                Float weight = lists.get(i).get(entry.getKey());
+                if (weight == null) {
+                    continue candidates;
+                }
+                score += idf[i] * weight;
+            }
+            if (documents.get(entry.getKey()).matches(filters)) {
+                topK.offer(entry.getKey(), Math.round(score * SCORE_SCALE), 0);
+            }
+        }
+    }
+
+    private void add(Long id, String title, String description, Collection<String> tags,
+                     Project.ProjectType projectType, Project.ProjectStatus status, boolean open,
+                     Collection<Long> skillIds) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, tokenize(title), TITLE_WEIGHT);
+        addField(weights, tokenize(description), DESCRIPTION_WEIGHT);
+        List<String> tagTokens = new ArrayList<>();
+        for (String tag : tags) {
+            tagTokens.addAll(tokenize(tag));
+        }
+        addField(weights, tagTokens, TAG_WEIGHT);
+
+        long[] skills = skillIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        documents.put(id, new Document(id, projectType, status, open, skills, weights.keySet()));
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, weight));
+    }
+
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<Long, Float> list = postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a field's saturated term frequencies, so repeating a word has diminishing effect
+     */
+    private static void addField(Map<String, Float> weights, List<String> tokens, float fieldWeight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((term, tf) -> weights.merge(term, fieldWeight * tf / (tf + 1f), Float::sum));
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Document(long id, Project.ProjectType projectType, Project.ProjectStatus status,
+                            boolean open, long[] skillIds, Set<String> terms) {
+
+        boolean matches(Filters filters) {
+            if (filters.projectType() != null && filters.projectType() != projectType) {
+                return false;
+            }
+            if (filters.status() != null && filters.status() != status) {
+                return false;
+            }
+            if (filters.open() != null && filters.open() != open) {
+                return false;
+            }
+            if (filters.anySkillIds() != null && !filters.anySkillIds().isEmpty()) {
+                for (Long skillId : filters.anySkillIds()) {
+                    if (Arrays.binarySearch(skillIds, skillId) >= 0) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return true;
+        }
+    }
+}
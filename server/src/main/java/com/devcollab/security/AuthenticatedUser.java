@@ -0,0 +1,14 @@
+package com.devcollab.security;
+
+import java.security.Principal;
+
+/**
+ * Principal of a request authenticated by access token, built from the token claims alone
+ */
+public record AuthenticatedUser(Long id, String email, boolean active, int tokenVersion) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -42,4 +42,14 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .disabled(!user.getActive())
                 .build();
     }
+
+    /**
+     * Look up the principal of a token issued before tokens carried the user ID
+     * @return The principal, or null if the user does not exist
+     */
+    public AuthenticatedUser loadAuthenticatedUser(String email) {
+        return userRepository.findByEmail(email)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), user.getActive(), user.getTokenVersion()))
+                .orElse(null);
+    }
 }
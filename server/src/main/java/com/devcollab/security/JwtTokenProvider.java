@@ -1,6 +1,8 @@
 package com.devcollab.security;
 
+import com.devcollab.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,32 +10,51 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
- * JWT token provider for generating and validating tokens
+ * JWT token provider for generating and validating tokens.
+ * The signing key and parser are built once; verified tokens are remembered until they expire,
+ * so repeat requests with the same token skip signature checks and parsing. The cache is a
+ * concurrent map read without locking; expiry is checked on read, and when the map outgrows its
+ * bound one writer sweeps it, dropping expired tokens and then arbitrary ones down to 90%.
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret:defaultSecretKeyThatShouldBeChangedInProductionAndMustBeLongEnoughForHS256}")
-    private String jwtSecret;
-
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
-    private long jwtExpirationMs;
-
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    static final String USER_ID_CLAIM = "uid";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final long jwtExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final int maxCachedTokens;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret:defaultSecretKeyThatShouldBeChangedInProductionAndMustBeLongEnoughForHS256}") String jwtSecret,
+            @Value("${jwt.expiration:86400000}") long jwtExpirationMs, // 24 hours in milliseconds
+            @Value("${jwt.claims-cache.max-entries:10000}") int maxCachedTokens) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.maxCachedTokens = maxCachedTokens;
     }
 
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, email);
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        return createToken(claims, user.getEmail());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -45,10 +66,79 @@ public class JwtTokenProvider {
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verify a token and return its claims in a single pass
+     * @return The claims, or null if the token is invalid or expired
+     */
+    public Claims parseValidClaims(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedToken verified = verifiedTokens.get(token);
+        if (verified != null) {
+            if (verified.expiresAt() > now) {
+                return verified.claims();
+            }
+            verifiedTokens.remove(token, verified);
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (Exception e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, new VerifiedToken(claims, claims.getExpiration().getTime()));
+            if (verifiedTokens.size() > maxCachedTokens) {
+                sweep(now);
+            }
+        }
+        return claims;
+    }
+
+    int cachedTokens() {
+        return verifiedTokens.size();
+    }
+
+    /**
+     * Bring the cache back under its bound; concurrent writers skip the sweep while one runs
+     */
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            verifiedTokens.values().removeIf(verified -> verified.expiresAt() <= now);
+            int target = maxCachedTokens - maxCachedTokens / 10;
+            Iterator<String> tokens = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() > target && tokens.hasNext()) {
+                tokens.next();
+                tokens.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Build the request principal from verified claims
+     * @return The principal, or null for tokens issued without a user ID
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        if (userId == null) {
+            return null;
+        }
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), true,
+                tokenVersion != null ? tokenVersion.intValue() : 0);
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -63,32 +153,22 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        Claims claims = parseValidClaims(token);
+        if (claims == null) {
+            throw new IllegalArgumentException("Invalid JWT token");
+        }
+        return claims;
     }
 
     public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+        Claims claims = parseValidClaims(token);
+        return claims != null && email.equals(claims.getSubject());
     }
 
     public Boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return parseValidClaims(token) != null;
+    }
+
+    private record VerifiedToken(Claims claims, long expiresAt) {
     }
 }
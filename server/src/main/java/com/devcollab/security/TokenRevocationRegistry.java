@@ -0,0 +1,72 @@
+package com.devcollab.security;
+
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.event.UserTokensRevokedEvent;
+import com.devcollab.model.User;
+import com.devcollab.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of revoked access tokens, so authenticating a request needs no database lookup.
+ * <p>
+ * Only exceptions are kept: users whose token version was bumped and deactivated users.
+ * Everyone else is implicitly at version 0 and active. The state is loaded once at startup
+ * and then kept current from user change events.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationRegistry {
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Integer> tokenVersions = new ConcurrentHashMap<>();
+    private final Set<Long> deactivatedUsers = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (UserTokenState state : userRepository.findRevocationStates()) {
+            apply(state.id(), state.tokenVersion(), state.active());
+        }
+        log.info("Loaded token revocation state: {} revoked versions, {} deactivated users",
+                tokenVersions.size(), deactivatedUsers.size());
+    }
+
+    /**
+     * Whether a user is active and tokens of the given version are still accepted
+     */
+    public boolean isActive(long userId, int tokenVersion) {
+        return !deactivatedUsers.contains(userId) && tokenVersion >= tokenVersions.getOrDefault(userId, 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        User user = event.user();
+        apply(user.getId(), user.getTokenVersion(), user.getActive());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        tokenVersions.merge(event.userId(), event.tokenVersion(), Math::max);
+    }
+
+    private void apply(Long userId, Integer tokenVersion, Boolean active) {
+        if (tokenVersion != null && tokenVersion > 0) {
+            tokenVersions.merge(userId, tokenVersion, Math::max);
+        }
+        if (Boolean.FALSE.equals(active)) {
+            deactivatedUsers.add(userId);
+        } else {
+            deactivatedUsers.remove(userId);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.devcollab.security;
+
+/**
+ * Revocation-relevant state of a user, loaded without the rest of the entity
+ */
+public record UserTokenState(Long id, Integer tokenVersion, Boolean active) {
+}
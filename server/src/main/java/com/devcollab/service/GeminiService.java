@@ -1,8 +1,12 @@
 package com.devcollab.service;
 
+import com.devcollab.model.Project;
+import com.devcollab.model.Skill;
 import com.devcollab.model.User;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Service interface for Gemini AI integration
@@ -17,9 +21,33 @@ public interface GeminiService {
     /**
      * Generate match explanation between two users
      */
-    String generateMatchExplanation(User user1, User user2, int compatibilityScore, 
+    String generateMatchExplanation(User user1, User user2, int compatibilityScore,
                                    int commonSkills, int commonInterests);
 
+    /**
+     * Generate match explanation between two developer profiles
+     */
+    String generateMatchExplanation(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
+                                    int commonSkills, int commonInterests);
+
+    /**
+     * Generate match explanations between one user and several candidates with a single AI request.
+     * Results are in candidate order; candidates the AI does not answer get a rule-based explanation.
+     */
+    List<String> generateMatchExplanations(DeveloperProfile user, List<MatchCandidate> candidates);
+
+    /**
+     * Look up a previously generated explanation for the same profiles and statistics
+     */
+    Optional<String> findCachedMatchExplanation(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
+                                                int commonSkills, int commonInterests);
+
+    /**
+     * Generate a rule-based match explanation without calling the AI
+     */
+    String generateFallbackExplanation(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
+                                       int commonSkills, int commonInterests);
+
     /**
      * Get skill recommendations based on user profile
      */
@@ -35,4 +63,52 @@ public interface GeminiService {
      */
     record ParsedBioResult(List<String> skills, List<String> interests, String summary) {
     }
+
+    /**
+     * A candidate to explain in a batched request, with its match statistics
+     */
+    record MatchCandidate(DeveloperProfile profile, int compatibilityScore, int commonSkills, int commonInterests) {
+    }
+
+    /**
+     * Detached snapshot of the user details used in match prompts.
+     * Safe to hand to background threads once built.
+     */
+    record DeveloperProfile(String fullName, User.ExperienceLevel experienceLevel, String bio,
+                            List<String> skills, List<String> interests, Integer hoursPerWeek,
+                            String timezone, List<String> projectTitles) {
+
+        /**
+         * Number of created projects named in a profile
+         */
+        public static final int MAX_PROJECT_TITLES = 3;
+
+        /**
+         * Build a profile from a user; must be called while the user's projects can still be loaded
+         */
+        public static DeveloperProfile of(User user) {
+            return of(user, user.getCreatedProjects().stream().limit(MAX_PROJECT_TITLES).map(Project::getTitle).toList());
+        }
+
+        /**
+         * Build a profile from a user and the titles of the projects it created, without loading the projects
+         */
+        public static DeveloperProfile of(User user, List<String> projectTitles) {
+            return new DeveloperProfile(
+                    user.getFullName(),
+                    user.getExperienceLevel(),
+                    user.getBio(),
+                    user.getSkills().stream().map(Skill::getName).filter(Objects::nonNull).sorted().toList(),
+                    user.getInterests().stream().filter(Objects::nonNull).sorted().toList(),
+                    user.getHoursPerWeek(),
+                    user.getTimezone(),
+                    projectTitles
+            );
+        }
+
+        public DeveloperProfile withProjectTitles(List<String> projectTitles) {
+            return new DeveloperProfile(fullName, experienceLevel, bio, skills, interests, hoursPerWeek, timezone,
+                    projectTitles);
+        }
+    }
 }
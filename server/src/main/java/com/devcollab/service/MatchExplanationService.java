@@ -0,0 +1,31 @@
+package com.devcollab.service;
+
+import com.devcollab.dto.response.MatchExplanationResponse;
+import com.devcollab.service.GeminiService.DeveloperProfile;
+import com.devcollab.service.GeminiService.MatchCandidate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for generating AI match explanations in the background
+ */
+public interface MatchExplanationService {
+
+    /**
+     * Queue generation of match explanations for one user against several candidates.
+     * All candidates are explained by a single batched AI request.
+     * @return One token per candidate, in candidate order, to fetch the explanations with
+     */
+    List<String> requestExplanations(DeveloperProfile user, List<MatchCandidate> candidates);
+
+    /**
+     * Get the current state of a requested explanation
+     */
+    MatchExplanationResponse getExplanation(String token);
+
+    /**
+     * Get a future that completes with the explanation once it is ready
+     */
+    CompletableFuture<MatchExplanationResponse> awaitExplanation(String token);
+}
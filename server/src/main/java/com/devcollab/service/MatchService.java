@@ -3,10 +3,13 @@ package com.devcollab.service;
 import com.devcollab.dto.request.CreateMatchRequest;
 import com.devcollab.dto.request.FindMatchesRequest;
 import com.devcollab.dto.request.MatchResponseRequest;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.MatchResponse;
 import com.devcollab.dto.response.MatchSuggestionResponse;
+import com.devcollab.dto.response.ProjectRecommendationResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for matching operations
@@ -29,14 +32,18 @@ public interface MatchService {
     MatchResponse getMatchById(Long id);
 
     /**
-     * Get all received matches for a user
+     * Get a page of received matches for a user
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, capped at {@link CursorPage#MAX_SIZE}
      */
-    List<MatchResponse> getReceivedMatches(Long userId);
+    CursorPage<MatchResponse> getReceivedMatches(Long userId, String cursor, Integer size);
 
     /**
-     * Get all sent matches for a user
+     * Get a page of sent matches for a user
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, capped at {@link CursorPage#MAX_SIZE}
      */
-    List<MatchResponse> getSentMatches(Long userId);
+    CursorPage<MatchResponse> getSentMatches(Long userId, String cursor, Integer size);
 
     /**
      * Get pending matches for a user
@@ -44,10 +51,21 @@ public interface MatchService {
     List<MatchResponse> getPendingMatches(Long userId);
 
     /**
-     * Find potential matches for a user
+     * Find potential matches for a user, or for a project when the request names one
      */
     List<MatchSuggestionResponse> findPotentialMatches(Long userId, FindMatchesRequest request);
 
+    /**
+     * Find potential matches, handing each suggestion to the listener as soon as it is mapped.
+     * Explanations are requested first, so every suggestion already carries its token.
+     */
+    void findPotentialMatches(Long userId, FindMatchesRequest request, Consumer<MatchSuggestionResponse> listener);
+
+    /**
+     * Recommend open projects to a user by how many of their missing skills the user has
+     */
+    List<ProjectRecommendationResponse> recommendProjects(Long userId, Integer limit);
+
     /**
      * Calculate match score between two users
      */
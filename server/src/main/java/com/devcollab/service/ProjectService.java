@@ -1,7 +1,9 @@
 package com.devcollab.service;
 
 import com.devcollab.dto.request.CreateProjectRequest;
+import com.devcollab.dto.request.ProjectSearchRequest;
 import com.devcollab.dto.request.UpdateProjectRequest;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.ProjectResponse;
 
 import java.util.List;
@@ -37,14 +39,18 @@ public interface ProjectService {
     List<ProjectResponse> getProjectsByCreator(Long userId);
 
     /**
-     * Get all open projects
+     * Get a page of open projects
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, capped at {@link CursorPage#MAX_SIZE}
      */
-    List<ProjectResponse> getAllOpenProjects();
+    CursorPage<ProjectResponse> getAllOpenProjects(String cursor, Integer size);
 
     /**
-     * Get projects accepting team members
+     * Get a page of projects accepting team members
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, capped at {@link CursorPage#MAX_SIZE}
      */
-    List<ProjectResponse> getProjectsAcceptingMembers();
+    CursorPage<ProjectResponse> getProjectsAcceptingMembers(String cursor, Integer size);
 
     /**
      * Add team member to project
@@ -60,4 +66,12 @@ public interface ProjectService {
      * Search projects by skills
      */
     List<ProjectResponse> searchProjectsBySkills(List<Long> skillIds);
+
+    /**
+     * Search projects by words in their title, description or tags, combined with filters.
+     * Results are ranked by relevance, or newest first when there are no words.
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, capped at {@link CursorPage#MAX_SIZE}
+     */
+    CursorPage<ProjectResponse> searchProjects(ProjectSearchRequest request, String cursor, Integer size);
 }
@@ -1,8 +1,10 @@
 package com.devcollab.service;
 
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.SkillResponse;
 import com.devcollab.model.Skill;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -12,9 +14,11 @@ import java.util.Set;
 public interface SkillService {
 
     /**
-     * Get all skills
+     * Get a page of skills
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, capped at {@link CursorPage#MAX_SIZE}
      */
-    List<SkillResponse> getAllSkills();
+    CursorPage<SkillResponse> getAllSkills(String cursor, Integer size);
 
     /**
      * Get skill by ID
@@ -45,4 +49,10 @@ public interface SkillService {
      * Get or create skills from a set of names
      */
     Set<Skill> getOrCreateSkills(Set<String> skillNames);
+
+    /**
+     * Resolve skill entities in bulk: existing skills by ID, and skills by name, creating missing names
+     * @throws com.devcollab.exception.ResourceNotFoundException if an ID does not exist
+     */
+    Set<Skill> resolveSkills(Collection<Long> skillIds, Collection<String> skillNames);
 }
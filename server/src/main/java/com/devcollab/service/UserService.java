@@ -2,6 +2,7 @@ package com.devcollab.service;
 
 import com.devcollab.dto.request.OnboardingRequest;
 import com.devcollab.dto.request.UpdateUserRequest;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.UserResponse;
 import com.devcollab.model.User;
 
@@ -38,9 +39,11 @@ public interface UserService {
     void deleteUser(Long id);
 
     /**
-     * Get all active users
+     * Get a page of active users
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, capped at {@link CursorPage#MAX_SIZE}
      */
-    List<UserResponse> getAllActiveUsers();
+    CursorPage<UserResponse> getAllActiveUsers(String cursor, Integer size);
 
     /**
      * Add skills to user from GitHub profile
@@ -4,6 +4,8 @@ import com.devcollab.dto.request.LoginRequest;
 import com.devcollab.dto.request.OAuth2RegisterRequest;
 import com.devcollab.dto.request.RegisterRequest;
 import com.devcollab.dto.response.AuthResponse;
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.event.UserTokensRevokedEvent;
 import com.devcollab.exception.ResourceAlreadyExistsException;
 import com.devcollab.exception.ResourceNotFoundException;
 import com.devcollab.exception.UnauthorizedException;
@@ -15,7 +17,9 @@ import com.devcollab.security.JwtTokenProvider;
 import com.devcollab.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -40,13 +44,18 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("githubRestTemplate")
+    private final RestTemplate restTemplate;
     
     @Value("${github.client.id:}")
     private String githubClientId;
     
     @Value("${github.client.secret:}")
     private String githubClientSecret;
+    
+    @Value("${github.oauth.token-url:https://github.com/login/oauth/access_token}")
+    private String githubTokenUrl;
 
     @Override
     public AuthResponse register(RegisterRequest request) {
@@ -72,8 +81,9 @@ public class AuthServiceImpl implements AuthService {
         }
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(savedUser));
 
-        String accessToken = jwtTokenProvider.generateToken(savedUser.getEmail());
+        String accessToken = jwtTokenProvider.generateToken(savedUser);
         String refreshToken = createRefreshToken(savedUser);
 
         log.info("User registered successfully with ID: {}", savedUser.getId());
@@ -145,6 +155,7 @@ public class AuthServiceImpl implements AuthService {
             
             if (updated) {
                 user = userRepository.save(user);
+                eventPublisher.publishEvent(new UserProfileChangedEvent(user));
             }
             
             log.info("Existing OAuth user logged in with ID: {}", user.getId());
@@ -166,11 +177,12 @@ public class AuthServiceImpl implements AuthService {
             }
 
             user = userRepository.save(user);
+            eventPublisher.publishEvent(new UserProfileChangedEvent(user));
             log.info("New OAuth user created with ID: {} with email: {}", user.getId(), email);
         }
 
-        // Generate tokens using email as identifier
-        String accessToken = jwtTokenProvider.generateToken(user.getEmail());
+        // Generate tokens carrying the user ID and token version
+        String accessToken = jwtTokenProvider.generateToken(user);
         String refreshToken = createRefreshToken(user);
 
         return new AuthResponse(accessToken, refreshToken, user.getId(), user.getEmail(), user.getFullName());
@@ -191,7 +203,7 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("User account is deactivated");
         }
 
-        String accessToken = jwtTokenProvider.generateToken(user.getEmail());
+        String accessToken = jwtTokenProvider.generateToken(user);
         String refreshToken = createRefreshToken(user);
 
         log.info("User logged in successfully with ID: {}", user.getId());
@@ -211,7 +223,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
         User user = token.getUser();
-        String newAccessToken = jwtTokenProvider.generateToken(user.getEmail());
+        String newAccessToken = jwtTokenProvider.generateToken(user);
 
         return new AuthResponse(newAccessToken, refreshToken, user.getId(), user.getEmail(), user.getFullName());
     }
@@ -224,6 +236,11 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
         refreshTokenRepository.deleteByUser(user);
+
+        // Revoke access tokens already handed out, on every device
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        userRepository.save(user);
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(user.getId(), user.getTokenVersion()));
         log.info("User logged out successfully");
     }
 
@@ -238,8 +255,6 @@ public class AuthServiceImpl implements AuthService {
         
         try {
             // Exchange code for access token
-            String tokenUrl = "https://github.com/login/oauth/access_token";
-            
             Map<String, String> requestBody = new HashMap<>();
             requestBody.put("client_id", githubClientId);
             requestBody.put("client_secret", githubClientSecret);
@@ -252,7 +267,7 @@ public class AuthServiceImpl implements AuthService {
             HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
             
             ResponseEntity<Map> response = restTemplate.exchange(
-                tokenUrl,
+                githubTokenUrl,
                 HttpMethod.POST,
                 request,
                 Map.class
@@ -1,13 +1,19 @@
 package com.devcollab.service.impl;
 
-import com.devcollab.model.Project;
-import com.devcollab.model.Skill;
+import com.devcollab.ai.CallNotPermittedException;
+import com.devcollab.ai.CircuitBreaker;
+import com.devcollab.ai.ExplanationCache;
+import com.devcollab.ai.RateLimitExceededException;
+import com.devcollab.ai.RateLimiter;
+import com.devcollab.ai.SingleFlight;
 import com.devcollab.model.User;
 import com.devcollab.service.GeminiService;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -16,9 +22,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Implementation of GeminiService for AI-powered features
@@ -34,12 +43,28 @@ public class GeminiServiceImpl implements GeminiService {
     @Value("${gemini.api.url}")
     private String apiUrl;
 
+    @Value("${gemini.model:}")
+    private String model;
+
+    @Value("${gemini.rate-limit.max-wait-ms:2000}")
+    private long rateLimitMaxWaitMs;
+
     private final RestTemplate restTemplate;
     private final Gson gson;
+    private final ExplanationCache explanationCache;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final SingleFlight<String, String> inFlightPrompts = new SingleFlight<>();
 
-    public GeminiServiceImpl() {
-        this.restTemplate = new RestTemplate();
+    public GeminiServiceImpl(@Qualifier("geminiRestTemplate") RestTemplate restTemplate,
+                             ExplanationCache explanationCache,
+                             CircuitBreaker geminiCircuitBreaker,
+                             RateLimiter geminiRateLimiter) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = geminiCircuitBreaker;
+        this.rateLimiter = geminiRateLimiter;
         this.gson = new Gson();
+        this.explanationCache = explanationCache;
     }
 
     @Override
@@ -53,20 +78,40 @@ public class GeminiServiceImpl implements GeminiService {
     @Override
     public String generateMatchExplanation(User user1, User user2, int compatibilityScore, 
                                           int commonSkills, int commonInterests) {
+        return generateMatchExplanation(DeveloperProfile.of(user1), DeveloperProfile.of(user2),
+                compatibilityScore, commonSkills, commonInterests);
+    }
+
+    @Override
+    public String generateMatchExplanation(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
+                                           int commonSkills, int commonInterests) {
         log.info("Generating match explanation between {} and {} with Gemini AI", 
-                user1.getFullName(), user2.getFullName());
+                user1.fullName(), user2.fullName());
         
         try {
             // Build comprehensive user profiles for context
             String prompt = buildMatchExplanationPrompt(user1, user2, compatibilityScore, 
                     commonSkills, commonInterests);
             
+            // Identical prompts produce reusable explanations
+            String cacheKey = ExplanationCache.keyOf(model, prompt);
+            Optional<String> cached = explanationCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("Using cached match explanation");
+                return cached.get();
+            }
+            
             // Call Gemini API
             String explanation = callGeminiAPI(prompt);
+            explanationCache.put(cacheKey, explanation);
             
             log.info("Successfully generated match explanation");
             return explanation;
             
+        } catch (CallNotPermittedException | RateLimitExceededException e) {
+            log.debug("{}, using rule-based explanation", e.getMessage());
+            return generateFallbackExplanation(user1, user2, compatibilityScore,
+                    commonSkills, commonInterests);
         } catch (Exception e) {
             log.error("Error generating match explanation with Gemini: {}", e.getMessage());
             // Fallback to rule-based explanation
@@ -75,7 +120,123 @@ public class GeminiServiceImpl implements GeminiService {
         }
     }
 
-    private String buildMatchExplanationPrompt(User user1, User user2, int compatibilityScore,
+    @Override
+    public Optional<String> findCachedMatchExplanation(DeveloperProfile user1, DeveloperProfile user2,
+                                                       int compatibilityScore, int commonSkills, int commonInterests) {
+        String prompt = buildMatchExplanationPrompt(user1, user2, compatibilityScore, commonSkills, commonInterests);
+        return explanationCache.get(ExplanationCache.keyOf(model, prompt));
+    }
+
+    @Override
+    public List<String> generateMatchExplanations(DeveloperProfile user, List<MatchCandidate> candidates) {
+        log.info("Generating match explanations for {} against {} candidates with Gemini AI",
+                user.fullName(), candidates.size());
+
+        String[] explanations = new String[candidates.size()];
+        String[] cacheKeys = new String[candidates.size()];
+        List<Integer> uncached = new ArrayList<>();
+
+        // Serve what we can from the cache, keyed the same way as single-pair explanations
+        for (int i = 0; i < candidates.size(); i++) {
+            MatchCandidate candidate = candidates.get(i);
+            cacheKeys[i] = ExplanationCache.keyOf(model, buildMatchExplanationPrompt(user, candidate.profile(),
+                    candidate.compatibilityScore(), candidate.commonSkills(), candidate.commonInterests()));
+            explanations[i] = explanationCache.get(cacheKeys[i]).orElse(null);
+            if (explanations[i] == null) {
+                uncached.add(i);
+            }
+        }
+
+        if (uncached.size() == 1) {
+            MatchCandidate candidate = candidates.get(uncached.get(0));
+            explanations[uncached.get(0)] = generateMatchExplanation(user, candidate.profile(),
+                    candidate.compatibilityScore(), candidate.commonSkills(), candidate.commonInterests());
+        } else if (uncached.size() > 1) {
+            try {
+                String prompt = buildBatchMatchExplanationPrompt(user, candidates, uncached);
+                String response = callGeminiAPI(prompt, 200 * uncached.size(), true);
+                Map<Integer, String> parsed = parseBatchExplanations(response);
+
+                for (int n = 0; n < uncached.size(); n++) {
+                    String explanation = parsed.get(n + 1);
+                    if (explanation != null && !explanation.isBlank()) {
+                        int i = uncached.get(n);
+                        explanations[i] = explanation.trim();
+                        explanationCache.put(cacheKeys[i], explanations[i]);
+                    }
+                }
+                log.info("Generated {} of {} match explanations in one request", parsed.size(), uncached.size());
+            } catch (CallNotPermittedException | RateLimitExceededException e) {
+                log.debug("{}, using rule-based explanations", e.getMessage());
+            } catch (Exception e) {
+                log.error("Error generating batched match explanations with Gemini: {}", e.getMessage());
+            }
+        }
+
+        // Fall back per candidate for anything the AI did not answer
+        List<String> result = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            MatchCandidate candidate = candidates.get(i);
+            result.add(explanations[i] != null ? explanations[i] : generateFallbackExplanation(user, candidate.profile(),
+                    candidate.compatibilityScore(), candidate.commonSkills(), candidate.commonInterests()));
+        }
+        return result;
+    }
+
+    private String buildBatchMatchExplanationPrompt(DeveloperProfile user, List<MatchCandidate> candidates,
+                                                    List<Integer> indexes) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("You are a technical matching expert for a developer collaboration platform. ");
+        prompt.append("Analyze the developer profile below against each numbered candidate and explain why they would be good collaboration partners. ");
+        prompt.append("Be concise, professional, and highlight specific technical synergies.\n\n");
+
+        appendProfile(prompt, "Developer", user);
+        prompt.append("\n");
+
+        for (int n = 0; n < indexes.size(); n++) {
+            MatchCandidate candidate = candidates.get(indexes.get(n));
+            appendProfile(prompt, "Candidate " + (n + 1), candidate.profile());
+            prompt.append("Compatibility Score: ").append(candidate.compatibilityScore()).append("/100\n");
+            prompt.append("Common Skills: ").append(candidate.commonSkills()).append("\n");
+            prompt.append("Common Interests: ").append(candidate.commonInterests()).append("\n\n");
+        }
+
+        prompt.append("For each candidate, generate a brief, engaging explanation (2-3 sentences) of why they and the developer would make good collaboration partners. ");
+        prompt.append("Focus on their complementary skills, shared interests, and potential project synergies. ");
+        prompt.append("Respond only with a JSON array of objects of the form {\"candidate\": <number>, \"explanation\": \"<text>\"}.");
+
+        return prompt.toString();
+    }
+
+    /**
+     * Parse a batched response into explanations by candidate number; malformed entries are skipped
+     */
+    private Map<Integer, String> parseBatchExplanations(String response) {
+        String json = response.trim();
+        if (json.startsWith("```")) {
+            json = json.substring(json.indexOf('\n') + 1, json.lastIndexOf("```")).trim();
+        }
+
+        Map<Integer, String> explanations = new HashMap<>();
+        for (JsonElement element : gson.fromJson(json, JsonArray.class)) {
+            if (!element.isJsonObject()) {
+                continue;
+            }
+            JsonObject entry = element.getAsJsonObject();
+            if (entry.has("candidate") && entry.has("explanation")
+                    && entry.get("candidate").isJsonPrimitive() && entry.get("explanation").isJsonPrimitive()) {
+                try {
+                    explanations.put(entry.get("candidate").getAsInt(), entry.get("explanation").getAsString());
+                } catch (NumberFormatException e) {
+                    log.debug("Skipping batched explanation with invalid candidate number: {}", entry);
+                }
+            }
+        }
+        return explanations;
+    }
+
+    private String buildMatchExplanationPrompt(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
                                                int commonSkills, int commonInterests) {
         StringBuilder prompt = new StringBuilder();
         
@@ -84,47 +245,11 @@ public class GeminiServiceImpl implements GeminiService {
         prompt.append("Be concise, professional, and highlight specific technical synergies.\n\n");
         
         // User 1 Profile
-        prompt.append("Developer 1: ").append(user1.getFullName()).append("\n");
-        prompt.append("Experience Level: ").append(user1.getExperienceLevel()).append("\n");
-        prompt.append("Bio: ").append(user1.getBio() != null ? user1.getBio() : "N/A").append("\n");
-        prompt.append("Skills: ").append(user1.getSkills().stream()
-                .map(Skill::getName)
-                .collect(Collectors.joining(", "))).append("\n");
-        prompt.append("Interests: ").append(String.join(", ", user1.getInterests())).append("\n");
-        prompt.append("Hours per week: ").append(user1.getHoursPerWeek() != null ? user1.getHoursPerWeek() : "N/A").append("\n");
-        // prompt.append("Timezone: ").append(user1.getTimezone() != null ? user1.getTimezone() : "N/A").append("\n");
-        
-        if (!user1.getCreatedProjects().isEmpty()) {
-            prompt.append("Projects: ");
-            List<String> projectTitles = user1.getCreatedProjects().stream()
-                    .limit(3)
-                    .map(Project::getTitle)
-                    .collect(Collectors.toList());
-            prompt.append(String.join(", ", projectTitles)).append("\n");
-        }
-        
+        appendProfile(prompt, "Developer 1", user1);
         prompt.append("\n");
         
         // User 2 Profile
-        prompt.append("Developer 2: ").append(user2.getFullName()).append("\n");
-        prompt.append("Experience Level: ").append(user2.getExperienceLevel()).append("\n");
-        prompt.append("Bio: ").append(user2.getBio() != null ? user2.getBio() : "N/A").append("\n");
-        prompt.append("Skills: ").append(user2.getSkills().stream()
-                .map(Skill::getName)
-                .collect(Collectors.joining(", "))).append("\n");
-        prompt.append("Interests: ").append(String.join(", ", user2.getInterests())).append("\n");
-        prompt.append("Hours per week: ").append(user2.getHoursPerWeek() != null ? user2.getHoursPerWeek() : "N/A").append("\n");
-        // prompt.append("Timezone: ").append(user2.getTimezone() != null ? user2.getTimezone() : "N/A").append("\n");
-        
-        if (!user2.getCreatedProjects().isEmpty()) {
-            prompt.append("Projects: ");
-            List<String> projectTitles = user2.getCreatedProjects().stream()
-                    .limit(3)
-                    .map(Project::getTitle)
-                    .collect(Collectors.toList());
-            prompt.append(String.join(", ", projectTitles)).append("\n");
-        }
-        
+        appendProfile(prompt, "Developer 2", user2);
         prompt.append("\n");
         
         // Match Statistics
@@ -139,11 +264,41 @@ public class GeminiServiceImpl implements GeminiService {
         return prompt.toString();
     }
 
+    private void appendProfile(StringBuilder prompt, String label, DeveloperProfile profile) {
+        prompt.append(label).append(": ").append(profile.fullName()).append("\n");
+        prompt.append("Experience Level: ").append(profile.experienceLevel()).append("\n");
+        prompt.append("Bio: ").append(profile.bio() != null ? profile.bio() : "N/A").append("\n");
+        prompt.append("Skills: ").append(String.join(", ", profile.skills())).append("\n");
+        prompt.append("Interests: ").append(String.join(", ", profile.interests())).append("\n");
+        prompt.append("Hours per week: ").append(profile.hoursPerWeek() != null ? profile.hoursPerWeek() : "N/A").append("\n");
+        // prompt.append("Timezone: ").append(profile.timezone() != null ? profile.timezone() : "N/A").append("\n");
+        
+        if (!profile.projectTitles().isEmpty()) {
+            prompt.append("Projects: ").append(String.join(", ", profile.projectTitles())).append("\n");
+        }
+    }
+
     private String callGeminiAPI(String prompt) {
+        return callGeminiAPI(prompt, 200, false);
+    }
+
+    private String callGeminiAPI(String prompt, int maxOutputTokens, boolean jsonResponse) {
         if (apiKey == null || apiKey.isEmpty() || apiKey.equals("your-gemini-api-key-here")) {
             throw new RuntimeException("Gemini API key not configured");
         }
         
+        // Concurrent requests for the same prompt share one call
+        return inFlightPrompts.execute(ExplanationCache.keyOf(model, prompt), () -> {
+            // Stay within the provider quota; give up rather than wait past the budget
+            if (!rateLimiter.tryAcquire(Duration.ofMillis(rateLimitMaxWaitMs))) {
+                throw new RateLimitExceededException("Gemini rate limit reached");
+            }
+            // Fails immediately while Gemini is known to be failing or slow
+            return circuitBreaker.execute(() -> sendGeminiRequest(prompt, maxOutputTokens, jsonResponse));
+        });
+    }
+
+    private String sendGeminiRequest(String prompt, int maxOutputTokens, boolean jsonResponse) {
         try {
             // Build Gemini API request
             JsonObject requestBody = new JsonObject();
@@ -162,7 +317,10 @@ public class GeminiServiceImpl implements GeminiService {
             // Configure generation settings
             JsonObject generationConfig = new JsonObject();
             generationConfig.addProperty("temperature", 0.7);
-            generationConfig.addProperty("maxOutputTokens", 200);
+            generationConfig.addProperty("maxOutputTokens", maxOutputTokens);
+            if (jsonResponse) {
+                generationConfig.addProperty("responseMimeType", "application/json");
+            }
             requestBody.add("generationConfig", generationConfig);
             
             // Set headers
@@ -199,11 +357,12 @@ public class GeminiServiceImpl implements GeminiService {
         }
     }
 
-    private String generateFallbackExplanation(User user1, User user2, int compatibilityScore,
-                                               int commonSkills, int commonInterests) {
+    @Override
+    public String generateFallbackExplanation(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
+                                              int commonSkills, int commonInterests) {
         StringBuilder explanation = new StringBuilder();
         
-        explanation.append(user1.getFullName()).append(" and ").append(user2.getFullName());
+        explanation.append(user1.fullName()).append(" and ").append(user2.fullName());
         explanation.append(" have a ").append(compatibilityScore).append("% compatibility score. ");
         
         if (commonSkills > 0) {
@@ -218,12 +377,12 @@ public class GeminiServiceImpl implements GeminiService {
                     .append(", they're likely to work well on similar project types. ");
         }
         
-        if (user1.getTimezone() != null && user1.getTimezone().equals(user2.getTimezone())) {
+        if (user1.timezone() != null && user1.timezone().equals(user2.timezone())) {
             explanation.append("Being in the same timezone facilitates real-time collaboration. ");
         }
         
-        if (user1.getHoursPerWeek() != null && user2.getHoursPerWeek() != null && 
-                user1.getHoursPerWeek().equals(user2.getHoursPerWeek())) {
+        if (user1.hoursPerWeek() != null && user2.hoursPerWeek() != null && 
+                user1.hoursPerWeek().equals(user2.hoursPerWeek())) {
             explanation.append("Their matching availability ensures consistent project momentum.");
         }
         
@@ -0,0 +1,184 @@
+package com.devcollab.service.impl;
+
+import com.devcollab.dto.response.MatchExplanationResponse;
+import com.devcollab.exception.ResourceNotFoundException;
+import com.devcollab.service.GeminiService;
+import com.devcollab.service.GeminiService.DeveloperProfile;
+import com.devcollab.service.GeminiService.MatchCandidate;
+import com.devcollab.service.MatchExplanationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of MatchExplanationService.
+ * Explanations are generated on a bounded pool, one batched AI request per suggestion list;
+ * when the pool's queue is full the rule-based explanations are used instead of waiting for the AI.
+ * Pending explanations are kept until they expire, and at most {@code max-entries} of them, oldest evicted first.
+ */
+@Service
+@Slf4j
+public class MatchExplanationServiceImpl implements MatchExplanationService {
+
+    private final GeminiService geminiService;
+    private final ThreadPoolExecutor executor;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<String, PendingExplanation> explanations = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public MatchExplanationServiceImpl(GeminiService geminiService,
+                                       @Value("${matching.explanations.pool-size:4}") int poolSize,
+                                       @Value("${matching.explanations.queue-capacity:200}") int queueCapacity,
+                                       @Value("${matching.explanations.ttl-minutes:30}") long ttlMinutes,
+                                       @Value("${matching.explanations.max-entries:10000}") int maxEntries) {
+        this.geminiService = geminiService;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("match-explanation-"));
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public List<String> requestExplanations(DeveloperProfile user, List<MatchCandidate> candidates) {
+        List<String> tokens = new ArrayList<>(candidates.size());
+        List<CompletableFuture<String>> futures = new ArrayList<>(candidates.size());
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        for (int i = 0; i < candidates.size(); i++) {
+            String token = UUID.randomUUID().toString();
+            CompletableFuture<String> future = new CompletableFuture<>();
+            explanations.put(token, new PendingExplanation(future, expiresAt, user, candidates.get(i)));
+            insertionOrder.add(token);
+            tokens.add(token);
+            futures.add(future);
+        }
+        evictOldest();
+        if (candidates.isEmpty()) {
+            return tokens;
+        }
+
+        try {
+            executor.execute(() -> {
+                List<String> generated = null;
+                try {
+                    generated = geminiService.generateMatchExplanations(user, candidates);
+                } catch (Exception e) {
+                    log.error("Error generating match explanations: {}", e.getMessage());
+                } finally {
+                    completeAll(user, candidates, futures, generated);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Match explanation queue is full, using rule-based explanations");
+            completeAll(user, candidates, futures, null);
+        }
+        return tokens;
+    }
+
+    @Override
+    public MatchExplanationResponse getExplanation(String token) {
+        PendingExplanation pending = findPending(token);
+        if (pending.future().isDone()) {
+            String explanation = pending.future().isCompletedExceptionally()
+                    ? fallbackExplanation(pending)
+                    : pending.future().join();
+            return new MatchExplanationResponse(token, MatchExplanationResponse.ExplanationStatus.READY, explanation);
+        }
+        return new MatchExplanationResponse(token, MatchExplanationResponse.ExplanationStatus.PENDING, null);
+    }
+
+    @Override
+    public CompletableFuture<MatchExplanationResponse> awaitExplanation(String token) {
+        PendingExplanation pending = findPending(token);
+        return pending.future()
+                .exceptionally(error -> fallbackExplanation(pending))
+                .thenApply(explanation ->
+                        new MatchExplanationResponse(token, MatchExplanationResponse.ExplanationStatus.READY, explanation));
+    }
+
+    private String fallbackExplanation(PendingExplanation pending) {
+        MatchCandidate candidate = pending.candidate();
+        return geminiService.generateFallbackExplanation(pending.user(), candidate.profile(),
+                candidate.compatibilityScore(), candidate.commonSkills(), candidate.commonInterests());
+    }
+
+    private PendingExplanation findPending(String token) {
+        PendingExplanation pending = explanations.get(token);
+        if (pending == null || pending.isExpired(System.currentTimeMillis())) {
+            throw new ResourceNotFoundException("Match explanation not found or expired: " + token);
+        }
+        return pending;
+    }
+
+    /**
+     * Complete every future, using the rule-based explanation for candidates without a generated one,
+     * so that no waiting stream or poller is left hanging
+     */
+    private void completeAll(DeveloperProfile user, List<MatchCandidate> candidates,
+                             List<CompletableFuture<String>> futures, List<String> generated) {
+        if (generated != null && generated.size() != candidates.size()) {
+            log.warn("Expected {} match explanations but got {}", candidates.size(), generated.size());
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                String explanation = generated != null && i < generated.size() ? generated.get(i) : null;
+                if (explanation == null) {
+                    MatchCandidate candidate = candidates.get(i);
+                    explanation = geminiService.generateFallbackExplanation(user, candidate.profile(),
+                            candidate.compatibilityScore(), candidate.commonSkills(), candidate.commonInterests());
+                }
+                futures.get(i).complete(explanation);
+            } catch (RuntimeException e) {
+                futures.get(i).completeExceptionally(e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${matching.explanations.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        explanations.values().removeIf(pending -> pending.isExpired(now));
+        insertionOrder.removeIf(token -> !explanations.containsKey(token));
+    }
+
+    /**
+     * Drop the oldest explanations once more than max-entries are pending
+     */
+    private void evictOldest() {
+        while (explanations.size() > maxEntries) {
+            String oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            explanations.remove(oldest);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record PendingExplanation(CompletableFuture<String> future, long expiresAt,
+                                      DeveloperProfile user, MatchCandidate candidate) {
+
+        boolean isExpired(long now) {
+            return now > expiresAt;
+        }
+    }
+}
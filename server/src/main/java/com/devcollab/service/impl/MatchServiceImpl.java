@@ -3,13 +3,25 @@ package com.devcollab.service.impl;
 import com.devcollab.dto.request.CreateMatchRequest;
 import com.devcollab.dto.request.FindMatchesRequest;
 import com.devcollab.dto.request.MatchResponseRequest;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.MatchResponse;
 import com.devcollab.dto.response.MatchSuggestionResponse;
+import com.devcollab.dto.response.ProjectRecommendationResponse;
 import com.devcollab.exception.BadRequestException;
 import com.devcollab.exception.ForbiddenException;
 import com.devcollab.exception.ResourceNotFoundException;
 import com.devcollab.mapper.MatchMapper;
+import com.devcollab.mapper.ProjectMapper;
 import com.devcollab.mapper.UserMapper;
+import com.devcollab.matching.CandidateIndex;
+import com.devcollab.matching.CandidateRanker;
+import com.devcollab.matching.CandidateQuery;
+import com.devcollab.matching.MatchFeatures;
+import com.devcollab.matching.MatchScoringEngine;
+import com.devcollab.matching.ProjectCandidateIndex;
+import com.devcollab.matching.ProjectFeatures;
+import com.devcollab.matching.RecommendationStore;
+import com.devcollab.matching.TopKSelector;
 import com.devcollab.model.Match;
 import com.devcollab.model.Project;
 import com.devcollab.model.Skill;
@@ -18,18 +30,25 @@ import com.devcollab.repository.MatchRepository;
 import com.devcollab.repository.ProjectRepository;
 import com.devcollab.repository.UserRepository;
 import com.devcollab.service.GeminiService;
+import com.devcollab.service.GeminiService.DeveloperProfile;
+import com.devcollab.service.GeminiService.MatchCandidate;
+import com.devcollab.service.MatchExplanationService;
 import com.devcollab.service.MatchService;
 import com.devcollab.service.UserService;
+import com.devcollab.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +60,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class MatchServiceImpl implements MatchService {
 
+    private static final int MAX_PROJECT_RECOMMENDATIONS = 50;
+
     private final MatchRepository matchRepository;
     private final UserService userService;
     private final UserRepository userRepository;
@@ -48,6 +69,13 @@ public class MatchServiceImpl implements MatchService {
     private final MatchMapper matchMapper;
     private final UserMapper userMapper;
     private final GeminiService geminiService;
+    private final MatchExplanationService matchExplanationService;
+    private final CandidateIndex candidateIndex;
+    private final MatchScoringEngine scoringEngine;
+    private final RecommendationStore recommendationStore;
+    private final CandidateRanker candidateRanker;
+    private final ProjectCandidateIndex projectCandidateIndex;
+    private final ProjectMapper projectMapper;
 
     @Override
     public MatchResponse createMatch(Long userId, CreateMatchRequest request) {
@@ -78,10 +106,18 @@ public class MatchServiceImpl implements MatchService {
             match.setProject(project);
         }
 
-        // Calculate match score
-        Double matchScore = calculateMatchScore(userId, request.getRecipientUserId());
-        match.setMatchScore(matchScore);
-        match.setMatchExplanation("AI-generated match explanation (to be implemented)");
+        // Calculate match score, reusing the explanation shown with the suggestion when there is one
+        long evaluation = scoringEngine.evaluate(scoringEngine.encode(requester), scoringEngine.encode(recipient));
+        int score = MatchScoringEngine.scoreOf(evaluation);
+        int commonSkills = MatchScoringEngine.commonSkillsOf(evaluation);
+        int commonInterests = MatchScoringEngine.commonInterestsOf(evaluation);
+        DeveloperProfile requesterProfile = DeveloperProfile.of(requester);
+        DeveloperProfile recipientProfile = DeveloperProfile.of(recipient);
+        match.setMatchScore((double) score);
+        match.setMatchExplanation(geminiService
+                .findCachedMatchExplanation(requesterProfile, recipientProfile, score, commonSkills, commonInterests)
+                .orElseGet(() -> geminiService.generateFallbackExplanation(
+                        requesterProfile, recipientProfile, score, commonSkills, commonInterests)));
 
         Match savedMatch = matchRepository.save(match);
         log.info("Match request created successfully with ID: {}", savedMatch.getId());
@@ -122,20 +158,22 @@ public class MatchServiceImpl implements MatchService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<MatchResponse> getReceivedMatches(Long userId) {
+    public CursorPage<MatchResponse> getReceivedMatches(Long userId, String cursor, Integer size) {
         log.info("Fetching received matches for user ID: {}", userId);
-        return matchRepository.findByRecipientId(userId).stream()
-                .map(matchMapper::toResponse)
-                .collect(Collectors.toList());
+        int pageSize = CursorPage.sizeOf(size);
+        List<Match> matches = matchRepository.findByRecipientIdAndIdGreaterThanOrderByIdAsc(
+                userId, CursorCodec.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(matches, pageSize, Match::getId, matchMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<MatchResponse> getSentMatches(Long userId) {
+    public CursorPage<MatchResponse> getSentMatches(Long userId, String cursor, Integer size) {
         log.info("Fetching sent matches for user ID: {}", userId);
-        return matchRepository.findByRequesterId(userId).stream()
-                .map(matchMapper::toResponse)
-                .collect(Collectors.toList());
+        int pageSize = CursorPage.sizeOf(size);
+        List<Match> matches = matchRepository.findByRequesterIdAndIdGreaterThanOrderByIdAsc(
+                userId, CursorCodec.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(matches, pageSize, Match::getId, matchMapper::toResponse);
     }
 
     @Override
@@ -150,195 +188,170 @@ public class MatchServiceImpl implements MatchService {
     @Override
     @Transactional(readOnly = true)
     public List<MatchSuggestionResponse> findPotentialMatches(Long userId, FindMatchesRequest request) {
+        List<MatchSuggestionResponse> suggestions = new ArrayList<>();
+        findPotentialMatches(userId, request, suggestions::add);
+        return suggestions;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void findPotentialMatches(Long userId, FindMatchesRequest request,
+                                     Consumer<MatchSuggestionResponse> listener) {
         log.info("Finding potential matches for user ID: {}", userId);
         
-        User currentUser = userService.getUserEntityById(userId);
-        List<User> allActiveUsers = userRepository.findByActiveTrue();
+        // Active users are read from the index; others are loaded
+        MatchFeatures current = candidateIndex.get(userId);
+        DeveloperProfile currentProfile = candidateIndex.profile(userId);
+        if (current == null || currentProfile == null) {
+            User currentUser = userService.getUserEntityById(userId);
+            current = scoringEngine.encode(currentUser);
+            currentProfile = DeveloperProfile.of(currentUser);
+        }
+        CandidateQuery query = new CandidateQuery(request.getSkillIds(), request.getInterests(),
+                request.getExperienceLevel(), request.getMinHoursPerWeek());
         
-        // Filter out the current user
-        allActiveUsers = allActiveUsers.stream()
-                .filter(user -> !user.getId().equals(userId))
-                .collect(Collectors.toList());
+        int limit = request.getLimit() != null ? request.getLimit() : 10;
         
-        // Apply filters from request
-        if (request.getSkillIds() != null && !request.getSkillIds().isEmpty()) {
-            allActiveUsers = allActiveUsers.stream()
-                    .filter(user -> user.getSkills().stream()
-                            .anyMatch(skill -> request.getSkillIds().contains(skill.getId())))
-                    .collect(Collectors.toList());
+        // Phase one: rank by the project's skill needs, or the precomputed candidates,
+        // or the filtered index when they are not enough
+        Project project = request.getProjectId() != null
+                ? projectRepository.findById(request.getProjectId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Project not found"))
+                : null;
+        TopKSelector topK;
+        if (project != null) {
+            // Without a skill filter, only users with at least one required skill are candidates
+            CandidateQuery projectQuery = request.getSkillIds() != null && !request.getSkillIds().isEmpty()
+                    ? query
+                    : new CandidateQuery(project.getRequiredSkills().stream().map(Skill::getId).collect(Collectors.toSet()),
+                            request.getInterests(), request.getExperienceLevel(), request.getMinHoursPerWeek());
+            ProjectFeatures features = projectCandidateIndex.get(project.getId());
+            topK = candidateRanker.rankForProject(current,
+                    features != null ? features : projectCandidateIndex.encode(project),
+                    candidateIndex.find(projectQuery), limit);
+        } else {
+            topK = rankPrecomputed(userId, current, query, limit);
+            if (topK == null) {
+                topK = candidateRanker.rank(current, candidateIndex.find(query), limit);
+            }
         }
+        topK.finish();
         
-        if (request.getInterests() != null && !request.getInterests().isEmpty()) {
-            allActiveUsers = allActiveUsers.stream()
-                    .filter(user -> user.getInterests().stream()
-                            .anyMatch(request.getInterests()::contains))
-                    .collect(Collectors.toList());
+        // Phase two: load and map only the winners
+        List<Long> winnerIds = new ArrayList<>(topK.size());
+        for (int rank = 0; rank < topK.size(); rank++) {
+            winnerIds.add(topK.id(rank));
         }
+        Map<Long, User> usersById = userRepository.findAllById(winnerIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
         
-        if (request.getExperienceLevel() != null) {
-            allActiveUsers = allActiveUsers.stream()
-                    .filter(user -> user.getExperienceLevel().equals(request.getExperienceLevel()))
-                    .collect(Collectors.toList());
+        List<Integer> ranks = new ArrayList<>(topK.size());
+        List<User> candidates = new ArrayList<>(topK.size());
+        List<MatchCandidate> explanationCandidates = new ArrayList<>(topK.size());
+        for (int rank = 0; rank < topK.size(); rank++) {
+            User candidate = usersById.get(topK.id(rank));
+            if (candidate == null) {
+                continue; // Removed since it was indexed
+            }
+            DeveloperProfile profile = candidateIndex.profile(candidate.getId());
+            long evaluation = topK.payload(rank);
+            ranks.add(rank);
+            candidates.add(candidate);
+            explanationCandidates.add(new MatchCandidate(profile != null ? profile : DeveloperProfile.of(candidate),
+                    MatchScoringEngine.scoreOf(evaluation),
+                    MatchScoringEngine.commonSkillsOf(evaluation), MatchScoringEngine.commonInterestsOf(evaluation)));
         }
         
-        // if (request.getTimezone() != null) {
-        //     allActiveUsers = allActiveUsers.stream()
-        //             .filter(user -> request.getTimezone().equals(user.getTimezone()))
-        //             .collect(Collectors.toList());
-        // }
+        // Explain every suggestion with one batched AI request, so each suggestion is handed out with its token
+        List<String> explanationTokens = matchExplanationService.requestExplanations(currentProfile, explanationCandidates);
         
-        if (request.getMinHoursPerWeek() != null) {
-            allActiveUsers = allActiveUsers.stream()
-                    .filter(user -> user.getHoursPerWeek() != null && 
-                            user.getHoursPerWeek() >= request.getMinHoursPerWeek())
-                    .collect(Collectors.toList());
+        // Answer with the rule-based explanation now; the AI one is generated in the background
+        for (int i = 0; i < candidates.size(); i++) {
+            MatchCandidate candidate = explanationCandidates.get(i);
+            listener.accept(new MatchSuggestionResponse(
+                    userMapper.toResponse(candidates.get(i)),
+                    (double) candidate.compatibilityScore(),
+                    geminiService.generateFallbackExplanation(currentProfile, candidate.profile(),
+                            candidate.compatibilityScore(), candidate.commonSkills(), candidate.commonInterests()),
+                    candidate.commonSkills(),
+                    candidate.commonInterests(),
+                    explanationTokens.get(i),
+                    project != null ? CandidateRanker.coverageOf(topK.score(ranks.get(i))) : null
+            ));
         }
         
-        // Calculate compatibility scores and create suggestions
-        List<MatchSuggestionResponse> suggestions = allActiveUsers.stream()
-                .map(candidate -> {
-                    int compatibilityScore = calculateCompatibilityScore(currentUser, candidate);
-                    
-                    // Calculate common skills and interests
-                    int commonSkills = (int) currentUser.getSkills().stream()
-                            .filter(candidate.getSkills()::contains)
-                            .count();
-                    
-                    int commonInterests = (int) currentUser.getInterests().stream()
-                            .filter(candidate.getInterests()::contains)
-                            .count();
-                    
-                    // Generate match explanation
-                    String explanation = generateMatchExplanation(currentUser, candidate, 
-                            compatibilityScore, commonSkills, commonInterests);
-                    
-                    return new MatchSuggestionResponse(
-                            userMapper.toResponse(candidate),
-                            (double) compatibilityScore,
-                            explanation,
-                            commonSkills,
-                            commonInterests
-                    );
-                })
-                .filter(suggestion -> suggestion.getMatchScore() > 0) // Only include matches with score > 0
-                .sorted((s1, s2) -> Double.compare(s2.getMatchScore(), s1.getMatchScore())) // Sort by score descending
-                .limit(request.getLimit() != null ? request.getLimit() : 10)
-                .collect(Collectors.toList());
-        
-        log.info("Found {} potential matches for user ID: {}", suggestions.size(), userId);
-        return suggestions;
+        log.info("Found {} potential matches for user ID: {}", candidates.size(), userId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Double calculateMatchScore(Long userId1, Long userId2) {
-        log.info("Calculating match score between users {} and {}", userId1, userId2);
+    public List<ProjectRecommendationResponse> recommendProjects(Long userId, Integer limit) {
+        log.info("Recommending projects for user ID: {}", userId);
+        MatchFeatures current = candidateIndex.get(userId);
+        if (current == null) {
+            current = scoringEngine.encode(userService.getUserEntityById(userId));
+        }
+        int k = limit != null ? Math.max(1, Math.min(limit, MAX_PROJECT_RECOMMENDATIONS)) : 10;
+        TopKSelector topK = projectCandidateIndex.rank(current, k);
+        topK.finish();
 
-        User user1 = userService.getUserEntityById(userId1);
-        User user2 = userService.getUserEntityById(userId2);
+        List<Long> projectIds = new ArrayList<>(topK.size());
+        for (int rank = 0; rank < topK.size(); rank++) {
+            projectIds.add(topK.id(rank));
+        }
+        Map<Long, Project> projectsById = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
 
-        return (double) calculateCompatibilityScore(user1, user2);
+        List<ProjectRecommendationResponse> recommendations = new ArrayList<>(topK.size());
+        for (int rank = 0; rank < topK.size(); rank++) {
+            Project project = projectsById.get(topK.id(rank));
+            if (project == null) {
+                continue; // Removed since it was indexed
+            }
+            recommendations.add(new ProjectRecommendationResponse(
+                    projectMapper.toResponse(project),
+                    (double) ProjectCandidateIndex.coverageOf(topK.score(rank)),
+                    ProjectCandidateIndex.filledOf(topK.payload(rank)),
+                    ProjectCandidateIndex.missingOf(topK.payload(rank))
+            ));
+        }
+        return recommendations;
     }
 
     /**
-     * Calculate compatibility score between two users
-     * @param user The current user
-     * @param candidate The candidate user to match with
-     * @return Compatibility score (0-100)
+     * Rank the user's precomputed candidates that pass the query filters
+     * @return The selection, or null if there is no precomputed list or it may be missing matches
      */
-    private int calculateCompatibilityScore(User user, User candidate) {
-        int score = 0;
-        
-        // 1. Experience Level Complementarity (40 points)
-        // Award points for compatible experience levels
-        if (user.getExperienceLevel() != null && candidate.getExperienceLevel() != null) {
-            score += calculateExperienceLevelScore(user.getExperienceLevel(), candidate.getExperienceLevel());
+    private TopKSelector rankPrecomputed(Long userId, MatchFeatures current, CandidateQuery query, int limit) {
+        long[] precomputed = recommendationStore.get(userId);
+        if (precomputed == null || limit > recommendationStore.capacity()) {
+            return null;
         }
         
-        // 2. Shared Project Interests (30 points)
-        Set<String> userInterests = new HashSet<>(user.getInterests());
-        Set<String> candidateInterests = new HashSet<>(candidate.getInterests());
-        
-        userInterests.retainAll(candidateInterests); // intersection
-        int sharedInterests = userInterests.size();
-        score += Math.min(30, sharedInterests * 10);
-        
-        // 3. Availability Match (20 points)
-        if (user.getTimezone() != null && candidate.getTimezone() != null 
-                && user.getTimezone().equals(candidate.getTimezone())) {
-            score += 10;
-        }
-        if (user.getHoursPerWeek() != null && candidate.getHoursPerWeek() != null 
-                && user.getHoursPerWeek().equals(candidate.getHoursPerWeek())) {
-            score += 10;
+        MatchFeatures[] candidates = new MatchFeatures[precomputed.length];
+        int count = 0;
+        for (long candidateId : precomputed) {
+            MatchFeatures candidate = candidateIndex.get(candidateId);
+            if (candidate != null && candidateIndex.matches(candidate, query)) {
+                candidates[count++] = candidate;
+            }
         }
+        TopKSelector topK = candidateRanker.rank(current, Arrays.copyOf(candidates, count), limit);
         
-        // 4. Skill Overlap (10 points)
-        Set<Skill> userSkills = new HashSet<>(user.getSkills());
-        Set<Skill> candidateSkills = new HashSet<>(candidate.getSkills());
-        
-        userSkills.retainAll(candidateSkills);
-        int sharedSkills = userSkills.size();
-        score += Math.min(10, sharedSkills * 2);
-        
-        return Math.min(100, score); // cap at 100
+        // A full list may have been cut off before enough candidates passing the filters
+        boolean truncated = precomputed.length == recommendationStore.capacity();
+        return topK.size() < limit && truncated ? null : topK;
     }
 
-    /**
-     * Calculate score based on experience level compatibility
-     * @param userLevel User's experience level
-     * @param candidateLevel Candidate's experience level
-     * @return Score (0-40 points)
-     */
-    private int calculateExperienceLevelScore(User.ExperienceLevel userLevel, User.ExperienceLevel candidateLevel) {
-        // Same level gets full points
-        if (userLevel == candidateLevel) {
-            return 40;
-        }
-        
-        // Adjacent levels get partial points
-        int userLevelValue = getExperienceLevelValue(userLevel);
-        int candidateLevelValue = getExperienceLevelValue(candidateLevel);
-        int difference = Math.abs(userLevelValue - candidateLevelValue);
-        
-        if (difference == 1) {
-            return 30; // One level apart
-        } else if (difference == 2) {
-            return 20; // Two levels apart
-        } else {
-            return 10; // Three levels apart
-        }
-    }
+    @Override
+    @Transactional(readOnly = true)
+    public Double calculateMatchScore(Long userId1, Long userId2) {
+        log.info("Calculating match score between users {} and {}", userId1, userId2);
 
-    /**
-     * Convert experience level to numeric value for comparison
-     * @param level Experience level
-     * @return Numeric value (0-3)
-     */
-    private int getExperienceLevelValue(User.ExperienceLevel level) {
-        switch (level) {
-            case BEGINNER: return 0;
-            case INTERMEDIATE: return 1;
-            case ADVANCED: return 2;
-            case EXPERT: return 3;
-            default: return 0;
-        }
-    }
+        User user1 = userService.getUserEntityById(userId1);
+        User user2 = userService.getUserEntityById(userId2);
 
-    /**
-     * Generate a human-readable explanation for why two users match using Gemini AI
-     * 
-     * @param user Current user
-     * @param candidate Potential match candidate
-     * @param score Compatibility score
-     * @param commonSkills Number of common skills
-     * @param commonInterests Number of common interests
-     * @return AI-generated match explanation string
-     */
-    private String generateMatchExplanation(User user, User candidate, int score, 
-                                           int commonSkills, int commonInterests) {
-        // Call Gemini service with full user objects for rich context
-        return geminiService.generateMatchExplanation(user, candidate, score, 
-                commonSkills, commonInterests);
+        long evaluation = scoringEngine.evaluate(scoringEngine.encode(user1), scoringEngine.encode(user2));
+        return (double) MatchScoringEngine.scoreOf(evaluation);
     }
 }
@@ -1,26 +1,35 @@
 package com.devcollab.service.impl;
 
 import com.devcollab.dto.request.CreateProjectRequest;
+import com.devcollab.dto.request.ProjectSearchRequest;
 import com.devcollab.dto.request.UpdateProjectRequest;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.ProjectResponse;
+import com.devcollab.event.ProjectChangedEvent;
+import com.devcollab.event.ProjectDeletedEvent;
 import com.devcollab.exception.ForbiddenException;
 import com.devcollab.exception.ResourceNotFoundException;
 import com.devcollab.mapper.ProjectMapper;
 import com.devcollab.model.Project;
-import com.devcollab.model.Skill;
 import com.devcollab.model.User;
 import com.devcollab.repository.ProjectRepository;
+import com.devcollab.search.ProjectSearchIndex;
 import com.devcollab.service.ProjectService;
 import com.devcollab.service.SkillService;
 import com.devcollab.service.UserService;
+import com.devcollab.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +45,8 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserService userService;
     private final SkillService skillService;
     private final ProjectMapper projectMapper;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ProjectResponse createProject(Long userId, CreateProjectRequest request) {
@@ -56,10 +67,7 @@ public class ProjectServiceImpl implements ProjectService {
         project.setRepositoryUrl(request.getRepositoryUrl());
 
         if (request.getRequiredSkillIds() != null) {
-            Set<Skill> skills = request.getRequiredSkillIds().stream()
-                    .map(skillService::getSkillEntityById)
-                    .collect(Collectors.toSet());
-            project.setRequiredSkills(skills);
+            project.setRequiredSkills(skillService.resolveSkills(request.getRequiredSkillIds(), null));
         }
 
         if (request.getTags() != null) {
@@ -67,6 +75,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject));
         log.info("Project created successfully with ID: {}", savedProject.getId());
         return projectMapper.toResponse(savedProject);
     }
@@ -116,16 +125,14 @@ public class ProjectServiceImpl implements ProjectService {
             project.setIsOpen(request.getIsOpen());
         }
         if (request.getRequiredSkillIds() != null) {
-            Set<Skill> skills = request.getRequiredSkillIds().stream()
-                    .map(skillService::getSkillEntityById)
-                    .collect(Collectors.toSet());
-            project.setRequiredSkills(skills);
+            project.setRequiredSkills(skillService.resolveSkills(request.getRequiredSkillIds(), null));
         }
         if (request.getTags() != null) {
             project.setTags(request.getTags());
         }
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updatedProject));
         log.info("Project updated successfully");
         return projectMapper.toResponse(updatedProject);
     }
@@ -142,6 +149,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new ProjectDeletedEvent(projectId));
         log.info("Project deleted successfully");
     }
 
@@ -156,20 +164,22 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getAllOpenProjects() {
-        log.info("Fetching all open projects");
-        return projectRepository.findByIsOpenTrue().stream()
-                .map(projectMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<ProjectResponse> getAllOpenProjects(String cursor, Integer size) {
+        log.info("Fetching a page of open projects");
+        int pageSize = CursorPage.sizeOf(size);
+        List<Project> projects = projectRepository.findByIsOpenTrueAndIdGreaterThanOrderByIdAsc(
+                CursorCodec.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(projects, pageSize, Project::getId, projectMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getProjectsAcceptingMembers() {
-        log.info("Fetching projects accepting members");
-        return projectRepository.findProjectsAcceptingMembers().stream()
-                .map(projectMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<ProjectResponse> getProjectsAcceptingMembers(String cursor, Integer size) {
+        log.info("Fetching a page of projects accepting members");
+        int pageSize = CursorPage.sizeOf(size);
+        List<Project> projects = projectRepository.findProjectsAcceptingMembers(
+                CursorCodec.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(projects, pageSize, Project::getId, projectMapper::toResponse);
     }
 
     @Override
@@ -189,6 +199,7 @@ public class ProjectServiceImpl implements ProjectService {
         project.setCurrentTeamSize(project.getTeamMembers().size() + 1);
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updatedProject));
         return projectMapper.toResponse(updatedProject);
     }
 
@@ -207,6 +218,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updatedProject));
         return projectMapper.toResponse(updatedProject);
     }
 
@@ -218,4 +230,26 @@ public class ProjectServiceImpl implements ProjectService {
                 .map(projectMapper::toResponse)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponse> searchProjects(ProjectSearchRequest request, String cursor, Integer size) {
+        log.info("Searching projects with query: {}", request.getQuery());
+        int pageSize = CursorPage.sizeOf(size);
+        int offset = CursorCodec.decodeOffset(cursor);
+        ProjectSearchIndex.Hits hits = projectSearchIndex.search(request.getQuery(),
+                new ProjectSearchIndex.Filters(request.getProjectType(), request.getStatus(),
+                        request.getSkillIds(), request.getOpen()),
+                offset, pageSize);
+
+        // Load only the page, then restore the ranking
+        Map<Long, Project> projectsById = projectRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<ProjectResponse> projects = hits.ids().stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
+                .map(projectMapper::toResponse)
+                .toList();
+        return new CursorPage<>(projects, hits.hasMore() ? CursorCodec.encodeOffset(offset + pageSize) : null);
+    }
 }
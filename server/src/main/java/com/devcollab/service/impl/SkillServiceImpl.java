@@ -1,6 +1,9 @@
 package com.devcollab.service.impl;
 
+import com.devcollab.catalog.SkillCatalog;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.SkillResponse;
+import com.devcollab.event.SkillsCreatedEvent;
 import com.devcollab.exception.ResourceAlreadyExistsException;
 import com.devcollab.exception.ResourceNotFoundException;
 import com.devcollab.mapper.SkillMapper;
@@ -9,13 +12,15 @@ import com.devcollab.repository.SkillRepository;
 import com.devcollab.service.SkillService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
 
 /**
  * Implementation of SkillService
@@ -28,14 +33,14 @@ public class SkillServiceImpl implements SkillService {
 
     private final SkillRepository skillRepository;
     private final SkillMapper skillMapper;
+    private final SkillCatalog skillCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
-    public List<SkillResponse> getAllSkills() {
-        log.info("Fetching all skills");
-        return skillRepository.findAll().stream()
-                .map(skillMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<SkillResponse> getAllSkills(String cursor, Integer size) {
+        log.info("Fetching a page of skills");
+        return skillCatalog.page(cursor, size);
     }
 
     @Override
@@ -57,18 +62,14 @@ public class SkillServiceImpl implements SkillService {
     @Transactional(readOnly = true)
     public List<SkillResponse> getSkillsByCategory(Skill.SkillCategory category) {
         log.info("Fetching skills by category: {}", category);
-        return skillRepository.findByCategory(category).stream()
-                .map(skillMapper::toResponse)
-                .collect(Collectors.toList());
+        return skillCatalog.byCategory(category);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<SkillResponse> searchSkills(String query) {
         log.info("Searching skills with query: {}", query);
-        return skillRepository.findByNameContainingIgnoreCase(query).stream()
-                .map(skillMapper::toResponse)
-                .collect(Collectors.toList());
+        return skillCatalog.search(query);
     }
 
     @Override
@@ -85,6 +86,7 @@ public class SkillServiceImpl implements SkillService {
         skill.setDescription(description);
 
         Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(new SkillsCreatedEvent(List.of(savedSkill)));
         log.info("Skill created successfully with ID: {}", savedSkill.getId());
         return skillMapper.toResponse(savedSkill);
     }
@@ -92,17 +94,37 @@ public class SkillServiceImpl implements SkillService {
     @Override
     public Set<Skill> getOrCreateSkills(Set<String> skillNames) {
         log.info("Getting or creating skills: {}", skillNames);
+        return resolveSkills(List.of(), skillNames);
+    }
+
+    @Override
+    public Set<Skill> resolveSkills(Collection<Long> skillIds, Collection<String> skillNames) {
         Set<Skill> skills = new HashSet<>();
 
-        for (String skillName : skillNames) {
-            Skill skill = skillRepository.findByName(skillName)
-                    .orElseGet(() -> {
-                        Skill newSkill = new Skill();
-                        newSkill.setName(skillName);
-                        newSkill.setCategory(Skill.SkillCategory.OTHER);
-                        return skillRepository.save(newSkill);
-                    });
-            skills.add(skill);
+        if (skillIds != null && !skillIds.isEmpty()) {
+            Set<Long> ids = new HashSet<>(skillIds);
+            List<Skill> found = skillRepository.findAllById(ids);
+            if (found.size() < ids.size()) {
+                found.forEach(skill -> ids.remove(skill.getId()));
+                throw new ResourceNotFoundException("Skill not found with ID: " + ids.iterator().next());
+            }
+            skills.addAll(found);
+        }
+
+        if (skillNames != null && !skillNames.isEmpty()) {
+            // Sorted so that concurrent inserts of overlapping names lock rows in the same order
+            Set<String> missing = new TreeSet<>(skillNames);
+            for (Skill skill : skillRepository.findByNameIn(missing)) {
+                missing.remove(skill.getName());
+                skills.add(skill);
+            }
+            if (!missing.isEmpty()) {
+                skillRepository.insertMissing(missing.toArray(String[]::new), Skill.SkillCategory.OTHER.name());
+                List<Skill> created = skillRepository.findByNameIn(missing);
+                skills.addAll(created);
+                eventPublisher.publishEvent(new SkillsCreatedEvent(created));
+                log.info("Created {} new skills", created.size());
+            }
         }
 
         return skills;
@@ -2,23 +2,27 @@ package com.devcollab.service.impl;
 
 import com.devcollab.dto.request.OnboardingRequest;
 import com.devcollab.dto.request.UpdateUserRequest;
+import com.devcollab.dto.response.CursorPage;
 import com.devcollab.dto.response.UserResponse;
+import com.devcollab.event.UserProfileChangedEvent;
 import com.devcollab.exception.ResourceNotFoundException;
 import com.devcollab.mapper.UserMapper;
 import com.devcollab.model.Skill;
 import com.devcollab.model.User;
 import com.devcollab.repository.UserRepository;
+import com.devcollab.repository.projection.UserRow;
 import com.devcollab.service.SkillService;
 import com.devcollab.service.UserService;
+import com.devcollab.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of UserService
@@ -32,6 +36,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final SkillService skillService;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -88,13 +93,11 @@ public class UserServiceImpl implements UserService {
             user.setInterests(request.getInterests());
         }
         if (request.getSkillIds() != null) {
-            Set<Skill> skills = request.getSkillIds().stream()
-                    .map(skillService::getSkillEntityById)
-                    .collect(Collectors.toSet());
-            user.setSkills(skills);
+            user.setSkills(skillService.resolveSkills(request.getSkillIds(), null));
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(updatedUser));
         log.info("User updated successfully");
         return userMapper.toResponse(updatedUser);
     }
@@ -105,16 +108,30 @@ public class UserServiceImpl implements UserService {
         User user = getUserEntityById(id);
         user.setActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user));
         log.info("User deactivated successfully");
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllActiveUsers() {
-        log.info("Fetching all active users");
-        return userRepository.findByActiveTrue().stream()
-                .map(userMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<UserResponse> getAllActiveUsers(String cursor, Integer size) {
+        log.info("Fetching a page of active users");
+        int pageSize = CursorPage.sizeOf(size);
+        List<UserRow> rows = userRepository.findActiveUserRows(CursorCodec.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.ofBatch(rows, pageSize, UserRow::id, this::toResponses);
+    }
+
+    /**
+     * Map projected users with one query each for their skills and interests
+     */
+    private List<UserResponse> toResponses(List<UserRow> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = users.stream().map(UserRow::id).toList();
+        return userMapper.toResponses(users,
+                userRepository.findSkillRowsByUserIds(userIds),
+                userRepository.findInterestRowsByUserIds(userIds));
     }
 
     @Override
@@ -177,26 +194,15 @@ public class UserServiceImpl implements UserService {
             user.setInterests(request.getInterests());
         }
 
-        // Handle skills
-        Set<Skill> skills = new HashSet<>();
-        
-        // Add skills by ID if provided
-        if (request.getSkillIds() != null && !request.getSkillIds().isEmpty()) {
-            skills.addAll(request.getSkillIds().stream()
-                    .map(skillService::getSkillEntityById)
-                    .collect(Collectors.toSet()));
-        }
-        
-        // Add or create skills by name if provided
-        if (request.getSkillNames() != null && !request.getSkillNames().isEmpty()) {
-            skills.addAll(skillService.getOrCreateSkills(request.getSkillNames()));
-        }
+        // Handle skills: by ID if provided, and by name, creating the ones that do not exist yet
+        Set<Skill> skills = skillService.resolveSkills(request.getSkillIds(), request.getSkillNames());
         
         if (!skills.isEmpty()) {
             user.setSkills(skills);
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(updatedUser));
         log.info("Onboarding completed successfully for user ID: {}", userId);
         return userMapper.toResponse(updatedUser);
     }
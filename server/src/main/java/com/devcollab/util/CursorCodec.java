@@ -0,0 +1,71 @@
+package com.devcollab.util;
+
+import com.devcollab.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes pagination positions as opaque cursors.
+ * A keyset cursor holds the ID of the last item of a page, and the next page starts after it.
+ * Ranked results, which have no stable key order, use an offset cursor instead.
+ */
+public final class CursorCodec {
+
+    private static final String PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "at:";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long lastId) {
+        return encode(PREFIX, lastId);
+    }
+
+    public static String encodeOffset(int offset) {
+        return encode(OFFSET_PREFIX, offset);
+    }
+
+    /**
+     * Decode a cursor received from a client
+     * @return The ID to continue after, or 0 to start from the beginning when there is no cursor
+     */
+    public static long decode(String cursor) {
+        return decode(PREFIX, cursor);
+    }
+
+    /**
+     * Decode an offset cursor received from a client
+     * @return The offset of the page, 0 when there is no cursor
+     */
+    public static int decodeOffset(String cursor) {
+        long offset = decode(OFFSET_PREFIX, cursor);
+        if (offset > Integer.MAX_VALUE) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return (int) offset;
+    }
+
+    private static String encode(String prefix, long position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + position).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (position.startsWith(prefix)) {
+                long value = Long.parseLong(position.substring(prefix.length()));
+                if (value >= 0) {
+                    return value;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Reported below
+        }
+        throw new BadRequestException("Invalid cursor");
+    }
+}
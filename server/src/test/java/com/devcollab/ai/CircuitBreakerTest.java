@@ -0,0 +1,89 @@
+package com.devcollab.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker("test",
+            new CircuitBreaker.Settings(10, 4, 50, Duration.ofSeconds(1), 50, Duration.ofSeconds(30), 2),
+            clock::get);
+
+    @Test
+    void opensOnFailureRateAndShortCircuits() {
+        succeed();
+        fail();
+        succeed();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.execute(() -> "never called"))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(breaker.stats().notPermittedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void opensOnSlowCallRate() {
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> clock.addAndGet(Duration.ofSeconds(2).toNanos()));
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void closesAfterSuccessfulProbesAndReopensOnFailedProbe() {
+        tripOpen();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        fail();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        succeed();
+        succeed();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.stats().bufferedCalls()).isZero();
+    }
+
+    @Test
+    void ignoresACallThatStartedBeforeTheLastTransition() {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            tripOpen();
+            clock.addAndGet(Duration.ofSeconds(30).toNanos());
+            assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            throw new IllegalStateException("late failure");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        succeed();
+        succeed();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void succeed() {
+        breaker.execute(() -> "ok");
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.devcollab.ai;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExplanationCacheTest {
+
+    private static final long TTL = 1_000;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        ExplanationCache cache = new ExplanationCache(2, TTL, null, 10, clock::get);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        assertThat(cache.get("a")).contains("A");
+
+        cache.put("c", "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).contains("A");
+        assertThat(cache.get("c")).contains("C");
+    }
+
+    @Test
+    void expiresEntriesAfterTheirTtl() {
+        ExplanationCache cache = new ExplanationCache(10, TTL, dir.toString(), 10, clock::get);
+        cache.put("aa", "A");
+        clock.addAndGet(TTL - 1);
+        assertThat(cache.get("aa")).contains("A");
+
+        clock.addAndGet(1);
+
+        assertThat(cache.get("aa")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.diskSize()).isZero();
+    }
+
+    @Test
+    void reloadsEntriesFromDiskAfterARestart() {
+        ExplanationCache first = new ExplanationCache(10, TTL, dir.toString(), 10, clock::get);
+        first.put(ExplanationCache.keyOf("model", "prompt"), "Explained");
+        first.put("bb", "Old");
+
+        clock.addAndGet(TTL / 2);
+        ExplanationCache second = new ExplanationCache(10, TTL, dir.toString(), 10, clock::get);
+
+        assertThat(second.diskSize()).isEqualTo(2);
+        assertThat(second.get(ExplanationCache.keyOf("model", "prompt"))).contains("Explained");
+        assertThat(second.size()).isEqualTo(1);
+        clock.addAndGet(TTL / 2);
+        assertThat(second.get("bb")).isEmpty();
+        assertThat(second.diskSize()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsTheWriteTimeExpiryOfEntriesReloadedFromDisk() {
+        new ExplanationCache(10, TTL, dir.toString(), 10, clock::get).put("cc", "C");
+
+        clock.addAndGet(TTL - 10);
+        ExplanationCache restarted = new ExplanationCache(10, TTL, dir.toString(), 10, clock::get);
+        assertThat(restarted.get("cc")).contains("C");
+
+        clock.addAndGet(10);
+        assertThat(restarted.get("cc")).isEmpty();
+        assertThat(restarted.size()).isZero();
+    }
+
+    @Test
+    void prunesTheOldestFilesBeyondTheDiskCap() {
+        ExplanationCache cache = new ExplanationCache(100, TTL, dir.toString(), 10, clock::get);
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, "V" + i);
+            clock.incrementAndGet();
+        }
+        cache.put("k0", "Rewritten"); // Replacing a file does not grow the tier
+        assertThat(cache.diskSize()).isEqualTo(10);
+
+        cache.put("k10", "V10");
+
+        assertThat(cache.diskSize()).isEqualTo(9);
+        ExplanationCache reloaded = new ExplanationCache(100, TTL, dir.toString(), 10, clock::get);
+        assertThat(reloaded.diskSize()).isEqualTo(9);
+        assertThat(reloaded.get("k1")).isEmpty();
+        assertThat(reloaded.get("k2")).isEmpty();
+        assertThat(reloaded.get("k3")).contains("V3");
+        assertThat(reloaded.get("k0")).contains("Rewritten");
+        assertThat(reloaded.get("k10")).contains("V10");
+    }
+}
@@ -0,0 +1,51 @@
+package com.devcollab.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final RateLimiter limiter = new RateLimiter("test", 2, 2, 1, clock::get);
+
+    @Test
+    void grantsTheBurstThenSpacesPermitsAtTheRate() {
+        assertThat(limiter.reserve(0)).isZero();
+        assertThat(limiter.reserve(0)).isZero();
+        assertThat(limiter.reserve(0)).isZero(); // bucket empty: the next permit is due in 0.5s
+        assertThat(limiter.reserve(0)).isEqualTo(-1);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(limiter.reserve(0)).isZero();
+    }
+
+    @Test
+    void rejectsWhenTheWaitExceedsTheBudgetOrTheQueueIsFull() {
+        limiter.reserve(0);
+        limiter.reserve(0);
+        limiter.reserve(0);
+
+        assertThat(limiter.reserve(SECOND / 4)).isEqualTo(-1);
+        assertThat(limiter.reserve(SECOND)).isEqualTo(SECOND / 2);
+        assertThat(limiter.reserve(10 * SECOND)).isEqualTo(-1); // one caller already waiting
+        assertThat(limiter.stats().rejected()).isEqualTo(2);
+    }
+
+    @Test
+    void refillsUpToTheBurst() {
+        limiter.reserve(0);
+        limiter.reserve(0);
+        clock.addAndGet(10 * SECOND);
+
+        assertThat(limiter.reserve(0)).isZero();
+        assertThat(limiter.reserve(0)).isZero();
+        assertThat(limiter.reserve(0)).isZero();
+        assertThat(limiter.reserve(0)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.devcollab.catalog;
+
+import com.devcollab.dto.response.SkillResponse;
+import com.devcollab.event.SkillsCreatedEvent;
+import com.devcollab.mapper.SkillMapper;
+import com.devcollab.model.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillAutocompleteTest {
+
+    private final SkillAutocomplete autocomplete = new SkillAutocomplete(null, null, new SkillMapper());
+
+    @BeforeEach
+    void index() {
+        List<Skill> skills = new ArrayList<>();
+        String[] names = {"Java", "JavaScript", "Spring Boot", "TypeScript", "Node.js", "React Native", "React"};
+        for (int i = 0; i < names.length; i++) {
+            Skill skill = new Skill();
+            skill.setId(i + 1L);
+            skill.setName(names[i]);
+            skill.setCategory(Skill.SkillCategory.OTHER);
+            skills.add(skill);
+        }
+        autocomplete.onSkillsCreated(new SkillsCreatedEvent(skills));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenInnerMatches() {
+        assertThat(names(autocomplete.suggest("java", 10))).containsExactly("Java", "JavaScript");
+        assertThat(names(autocomplete.suggest("script", 10))).containsExactly("JavaScript", "TypeScript");
+        assertThat(names(autocomplete.suggest("js", 10))).containsExactly("Node.js");
+        assertThat(names(autocomplete.suggest("bo", 10))).containsExactly("Spring Boot");
+        assertThat(autocomplete.suggest("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void prefersPopularSkillsWithinATier() {
+        assertThat(names(autocomplete.suggest("re", 10))).containsExactly("React", "React Native");
+
+        autocomplete.updatePopularity(Map.of(6L, 500, 7L, 20));
+
+        assertThat(names(autocomplete.suggest("re", 1))).containsExactly("React Native");
+    }
+
+    private static List<String> names(List<SkillResponse> skills) {
+        return skills.stream().map(SkillResponse::getName).toList();
+    }
+}
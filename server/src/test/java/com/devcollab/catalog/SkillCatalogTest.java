@@ -0,0 +1,61 @@
+package com.devcollab.catalog;
+
+import com.devcollab.dto.response.CursorPage;
+import com.devcollab.dto.response.SkillResponse;
+import com.devcollab.event.SkillsCreatedEvent;
+import com.devcollab.mapper.SkillMapper;
+import com.devcollab.model.Skill;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillCatalogTest {
+
+    private final SkillCatalog catalog = new SkillCatalog(null, new SkillMapper(), new ObjectMapper());
+
+    @Test
+    void pagesAndSearchesInMemory() {
+        List<Skill> skills = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            skills.add(skill(id, id == 42 ? "TypeScript" : "skill-" + id, Skill.SkillCategory.OTHER));
+        }
+        catalog.onSkillsCreated(new SkillsCreatedEvent(skills));
+
+        CursorPage<SkillResponse> first = catalog.page(null, 25);
+        CursorPage<SkillResponse> second = catalog.page(first.getNextCursor(), 50);
+
+        assertThat(first.getItems()).extracting(SkillResponse::getId).startsWith(1L).endsWith(25L);
+        assertThat(second.getItems()).extracting(SkillResponse::getId).startsWith(26L).endsWith(60L);
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(catalog.search("script")).extracting(SkillResponse::getName).containsExactly("TypeScript");
+    }
+
+    @Test
+    void newVersionChangesOnlyAffectedBodies() {
+        catalog.onSkillsCreated(new SkillsCreatedEvent(List.of(skill(1, "Java", Skill.SkillCategory.BACKEND))));
+        SkillCatalog.CachedBody backend = catalog.categoryBody(Skill.SkillCategory.BACKEND);
+        SkillCatalog.CachedBody frontend = catalog.categoryBody(Skill.SkillCategory.FRONTEND);
+        long version = catalog.version();
+
+        catalog.onSkillsCreated(new SkillsCreatedEvent(List.of(skill(2, "React", Skill.SkillCategory.FRONTEND))));
+
+        assertThat(catalog.version()).isEqualTo(version + 1);
+        assertThat(catalog.categoryBody(Skill.SkillCategory.BACKEND).etag()).isEqualTo(backend.etag());
+        assertThat(catalog.categoryBody(Skill.SkillCategory.FRONTEND).etag()).isNotEqualTo(frontend.etag());
+        assertThat(new String(catalog.categoryBody(Skill.SkillCategory.FRONTEND).json(), StandardCharsets.UTF_8))
+                .contains("\"name\":\"React\"");
+    }
+
+    private static Skill skill(long id, String name, Skill.SkillCategory category) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        skill.setCategory(category);
+        return skill;
+    }
+}
@@ -0,0 +1,193 @@
+package com.devcollab.controller;
+
+import com.devcollab.dto.request.FindMatchesRequest;
+import com.devcollab.dto.response.MatchExplanationResponse;
+import com.devcollab.dto.response.MatchSuggestionResponse;
+import com.devcollab.exception.ResourceNotFoundException;
+import com.devcollab.service.GeminiService.DeveloperProfile;
+import com.devcollab.service.GeminiService.MatchCandidate;
+import com.devcollab.service.MatchExplanationService;
+import com.devcollab.service.MatchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchEventStreamTest {
+
+    @Test
+    void sendsSuggestionsAsTheyAreMappedThenExplanationsAndComplete() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        StubExplanations explanations = new StubExplanations();
+        List<String> eventsWhenMapped = new ArrayList<>();
+        MatchController controller = controller(listener -> {
+            listener.accept(suggestion("a"));
+            eventsWhenMapped.addAll(emitter.events);
+            listener.accept(suggestion("b"));
+        }, explanations);
+
+        controller.stream(1L, new FindMatchesRequest(), new MatchEventStream(emitter));
+        assertThat(eventsWhenMapped).containsExactly("suggestion");
+        assertThat(emitter.events).containsExactly("suggestion", "suggestion");
+
+        explanations.complete("b");
+        explanations.complete("a");
+        assertThat(emitter.events).containsExactly("suggestion", "suggestion", "explanation", "explanation", "complete");
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    void stopsSendingAfterTimeout() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        StubExplanations explanations = new StubExplanations();
+        MatchEventStream stream = new MatchEventStream(emitter);
+        controller(listener -> listener.accept(suggestion("a")), explanations)
+                .stream(1L, new FindMatchesRequest(), stream);
+
+        emitter.timeoutCallback.run();
+        assertThat(stream.isOpen()).isFalse();
+        assertThat(emitter.completed).isTrue();
+
+        explanations.complete("a");
+        assertThat(emitter.events).containsExactly("suggestion");
+    }
+
+    @Test
+    void stopsSendingAfterCompletionOrError() {
+        RecordingEmitter completed = new RecordingEmitter();
+        MatchEventStream first = new MatchEventStream(completed);
+        completed.completionCallback.run();
+        assertThat(first.send("suggestion", "a")).isFalse();
+
+        RecordingEmitter failed = new RecordingEmitter();
+        MatchEventStream second = new MatchEventStream(failed);
+        failed.errorCallback.accept(new IllegalStateException("client left"));
+        assertThat(second.send("suggestion", "a")).isFalse();
+
+        assertThat(completed.events).isEmpty();
+        assertThat(failed.events).isEmpty();
+    }
+
+    @Test
+    void stopsSendingAfterAFailedSend() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.broken = true;
+        MatchEventStream stream = new MatchEventStream(emitter);
+
+        assertThat(stream.send("suggestion", "a")).isFalse();
+        emitter.broken = false;
+        assertThat(stream.send("suggestion", "b")).isFalse();
+        assertThat(emitter.events).isEmpty();
+    }
+
+    @Test
+    void sendsAnErrorEventWhenTheSearchFails() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        controller(listener -> {
+            throw new ResourceNotFoundException("Project not found");
+        }, new StubExplanations()).stream(1L, new FindMatchesRequest(), new MatchEventStream(emitter));
+
+        assertThat(emitter.events).containsExactly("error");
+        assertThat(emitter.completed).isTrue();
+    }
+
+    private static MatchController controller(Consumer<Consumer<MatchSuggestionResponse>> search,
+                                              MatchExplanationService explanations) {
+        MatchService matchService = (MatchService) Proxy.newProxyInstance(MatchService.class.getClassLoader(),
+                new Class<?>[]{MatchService.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findPotentialMatches") && args.length == 3) {
+                        @SuppressWarnings("unchecked")
+                        Consumer<MatchSuggestionResponse> listener = (Consumer<MatchSuggestionResponse>) args[2];
+                        search.accept(listener);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new MatchController(matchService, explanations, 1000, 1);
+    }
+
+    private static MatchSuggestionResponse suggestion(String token) {
+        MatchSuggestionResponse suggestion = new MatchSuggestionResponse();
+        suggestion.setExplanationToken(token);
+        return suggestion;
+    }
+
+    private static class StubExplanations implements MatchExplanationService {
+
+        private final Map<String, CompletableFuture<MatchExplanationResponse>> futures = new HashMap<>();
+
+        @Override
+        public List<String> requestExplanations(DeveloperProfile user, List<MatchCandidate> candidates) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MatchExplanationResponse getExplanation(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<MatchExplanationResponse> awaitExplanation(String token) {
+            return futures.computeIfAbsent(token, t -> new CompletableFuture<>());
+        }
+
+        void complete(String token) {
+            futures.get(token).complete(new MatchExplanationResponse(token, MatchExplanationResponse.ExplanationStatus.READY, "Good fit"));
+        }
+    }
+
+    /**
+     * Emitter that records event names and keeps the callbacks Spring MVC would invoke
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new ArrayList<>();
+        boolean completed;
+        boolean broken;
+        Runnable timeoutCallback;
+        Runnable completionCallback;
+        Consumer<Throwable> errorCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (broken) {
+                throw new IllegalStateException("Emitter already completed");
+            }
+            String event = builder.build().iterator().next().getData().toString();
+            events.add(event.substring("event:".length(), event.indexOf('\n')));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeoutCallback = callback;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            errorCallback = callback;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.devcollab.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpClientsTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch slowCallStarted = new CountDownLatch(1);
+    private final CountDownLatch headersSent = new CountDownLatch(1);
+    private final OutboundHttpClients clients = new OutboundHttpClients();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/fast", exchange -> respond(exchange, "ok"));
+        server.createContext("/slow", exchange -> {
+            slowCallStarted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "late");
+        });
+        server.createContext("/trickle", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().write("first ".getBytes(StandardCharsets.UTF_8));
+            exchange.getResponseBody().flush();
+            headersSent.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseBody().write("last".getBytes(StandardCharsets.UTF_8));
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopStub() {
+        release.countDown();
+        server.stop(0);
+        clients.shutdown();
+    }
+
+    @Test
+    void failsSlowCallsAtTheReadTimeout() {
+        RestTemplate client = clients.create("stub", settings(300, 4, 100));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        assertThat(client.getForObject(baseUrl + "/fast", String.class)).isEqualTo("ok");
+        assertThat(clients.stats().get(0).failures()).isEqualTo(1);
+        assertThat(clients.stats().get(0).calls()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsCallsBeyondTheConcurrencyLimit() throws Exception {
+        RestTemplate client = clients.create("stub", settings(10_000, 1, 50));
+
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(
+                () -> client.getForObject(baseUrl + "/slow", String.class));
+        assertThat(slowCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/fast", String.class))
+                .isInstanceOf(BulkheadFullException.class);
+        Bulkhead.Stats saturated = clients.stats().get(0);
+        assertThat(saturated.inFlight()).isEqualTo(1);
+        assertThat(saturated.rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(slowCall.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+        assertThat(client.getForObject(baseUrl + "/fast", String.class)).isEqualTo("ok");
+        assertThat(clients.stats().get(0).inFlight()).isZero();
+    }
+
+    @Test
+    void holdsThePermitWhileTheBodyIsRead() throws Exception {
+        RestTemplate client = clients.create("stub", settings(10_000, 1, 50));
+
+        CompletableFuture<String> trickle = CompletableFuture.supplyAsync(
+                () -> client.getForObject(baseUrl + "/trickle", String.class));
+        assertThat(headersSent.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/fast", String.class))
+                .isInstanceOf(BulkheadFullException.class);
+
+        release.countDown();
+        assertThat(trickle.get(5, TimeUnit.SECONDS)).isEqualTo("first last");
+        assertThat(clients.stats().get(0).inFlight()).isZero();
+    }
+
+    @Test
+    void failsCallsAtTheTotalDeadlineWhileTheBodyIsRead() {
+        RestTemplate client = clients.create("stub", settings(10_000, 1, 50, 300));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/trickle", String.class))
+                .isInstanceOf(RestClientException.class)
+                .hasRootCauseInstanceOf(SocketTimeoutException.class)
+                .rootCause().hasMessageContaining("deadline");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        Bulkhead.Stats stats = clients.stats().get(0);
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.failures()).isEqualTo(1);
+        assertThat(client.getForObject(baseUrl + "/fast", String.class)).isEqualTo("ok");
+    }
+
+    @Test
+    void keepsThePermitOfACallWaitingForItsResponsePastTheDeadline() throws Exception {
+        RestTemplate client = clients.create("stub", settings(10_000, 1, 50, 200));
+
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(
+                () -> client.getForObject(baseUrl + "/slow", String.class));
+        assertThat(slowCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(400);
+
+        // Past the deadline the request is still running, so it still counts against the limit
+        assertThatThrownBy(() -> client.getForObject(baseUrl + "/fast", String.class))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(clients.stats().get(0).inFlight()).isEqualTo(1);
+
+        release.countDown();
+        assertThatThrownBy(() -> slowCall.get(5, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        Bulkhead.Stats stats = clients.stats().get(0);
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.failures()).isEqualTo(1);
+        assertThat(client.getForObject(baseUrl + "/fast", String.class)).isEqualTo("ok");
+    }
+
+    private static OutboundHttpSettings settings(long readTimeoutMs, int maxConcurrent, long acquireTimeoutMs) {
+        return settings(readTimeoutMs, maxConcurrent, acquireTimeoutMs, 30_000);
+    }
+
+    private static OutboundHttpSettings settings(long readTimeoutMs, int maxConcurrent, long acquireTimeoutMs,
+                                                 long totalTimeoutMs) {
+        return new OutboundHttpSettings(Duration.ofSeconds(1), Duration.ofMillis(readTimeoutMs),
+                maxConcurrent, Duration.ofMillis(acquireTimeoutMs), Duration.ofMillis(totalTimeoutMs));
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
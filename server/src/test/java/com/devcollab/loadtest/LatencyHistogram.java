@@ -0,0 +1,88 @@
+package com.devcollab.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Lock-free log-linear latency histogram with microsecond resolution.
+ * Each power of two is split into 16 linear sub-buckets, bounding the relative error to about 6%.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(long micros, boolean error) {
+        long value = Math.max(1, micros);
+        counts.incrementAndGet(bucketOf(value));
+        total.increment();
+        max.accumulate(value);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * Latency at a percentile (0-100), as the upper bound of the bucket it falls in
+     */
+    long percentile(double percentile) {
+        long target = (long) Math.ceil(count() * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= Math.max(1, target)) {
+                return Math.min(upperBoundOf(bucket), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Non-empty buckets as (upper bound in microseconds, count) pairs
+     */
+    long[][] buckets() {
+        return IntStream.range(0, BUCKETS)
+                .filter(bucket -> counts.get(bucket) > 0)
+                .mapToObj(bucket -> new long[]{upperBoundOf(bucket), counts.get(bucket)})
+                .toArray(long[][]::new);
+    }
+
+    private static int bucketOf(long value) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int subBucket = (int) ((value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (magnitude - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) << (magnitude - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
@@ -0,0 +1,164 @@
+package com.devcollab.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model load generator for the REST API: requests are started at a fixed arrival rate
+ * regardless of how fast earlier ones complete, and latency is measured from each request's
+ * scheduled start so queueing delay is not hidden. Prints a latency histogram per endpoint.
+ * Run with:
+ * <pre>
+ * java -cp target/test-classes com.devcollab.loadtest.LoadDriver
+ * </pre>
+ * System properties: {@code load.base-url} (http://localhost:8080), {@code load.rate} (requests/s, 50),
+ * {@code load.duration-seconds} (60), {@code load.warmup-seconds} (10), {@code load.sessions} (20),
+ * {@code load.users} (seeded user count, 10000), {@code load.password} (loadtest-password).
+ */
+public final class LoadDriver {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl = System.getProperty("load.base-url", "http://localhost:8080");
+    private final int seededUsers = Integer.getInteger("load.users", 10_000);
+
+    /**
+     * Endpoint mix; each entry is picked with probability proportional to its weight
+     */
+    private final List<Endpoint> endpoints = List.of(
+            new Endpoint("POST /api/matches/find", 5, random -> post("/api/matches/find", "{\"limit\":10}")),
+            new Endpoint("GET /api/skills", 2, random -> get("/api/skills")),
+            new Endpoint("GET /api/users/{id}", 2, random -> get("/api/users/" + (1 + random.nextInt(seededUsers)))),
+            new Endpoint("GET /api/projects/open", 1, random -> get("/api/projects/open"))
+    );
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver().run(
+                Integer.getInteger("load.rate", 50),
+                Integer.getInteger("load.duration-seconds", 60),
+                Integer.getInteger("load.warmup-seconds", 10),
+                Integer.getInteger("load.sessions", 20),
+                System.getProperty("load.password", "loadtest-password"));
+    }
+
+    private void run(int rate, int durationSeconds, int warmupSeconds, int sessions, String password) throws Exception {
+        List<String> tokens = login(sessions, password);
+        System.out.printf("Logged in %d sessions; warming up for %d s%n", tokens.size(), warmupSeconds);
+        drive(rate, warmupSeconds, tokens, null);
+
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> histograms.put(endpoint.name(), new LatencyHistogram()));
+        System.out.printf("Driving %d requests/s for %d s against %s%n", rate, durationSeconds, baseUrl);
+        drive(rate, durationSeconds, tokens, histograms);
+        report(histograms, durationSeconds);
+    }
+
+    private void drive(int rate, int seconds, List<String> tokens, Map<String, LatencyHistogram> histograms)
+            throws InterruptedException {
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long requests = (long) rate * seconds;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                long delay = scheduledAt - System.nanoTime();
+                if (delay > 0) {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                }
+                Endpoint endpoint = pick(totalWeight);
+                String token = tokens.get((int) (i % tokens.size()));
+                executor.execute(() -> {
+                    boolean error;
+                    try {
+                        HttpRequest request = endpoint.request().apply(ThreadLocalRandom.current()).copy()
+                                .header("Authorization", "Bearer " + token)
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        error = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400;
+                    } catch (Exception e) {
+                        error = true;
+                    }
+                    if (histograms != null) {
+                        histograms.get(endpoint.name()).record(
+                                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt), error);
+                    }
+                });
+            }
+        }
+    }
+
+    private List<String> login(int sessions, String password) throws Exception {
+        List<String> tokens = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            String email = "loadtest-user-" + (i * Math.max(1, seededUsers / sessions)) + "@devcollab.test";
+            HttpRequest request = post("/api/auth/login",
+                    "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}").build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+            if (response.statusCode() != 200 || !matcher.find()) {
+                throw new IllegalStateException("Login failed for " + email + ": " + response.statusCode());
+            }
+            tokens.add(matcher.group(1));
+        }
+        return tokens;
+    }
+
+    private Endpoint pick(int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(0);
+    }
+
+    private static void report(Map<String, LatencyHistogram> histograms, int durationSeconds) {
+        System.out.printf("%n%-28s %8s %7s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((name, histogram) -> System.out.printf("%-28s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, histogram.count(), histogram.errors(), histogram.count() / (double) durationSeconds,
+                histogram.percentile(50) / 1000.0, histogram.percentile(90) / 1000.0,
+                histogram.percentile(99) / 1000.0, histogram.percentile(99.9) / 1000.0, histogram.max() / 1000.0));
+
+        histograms.forEach((name, histogram) -> {
+            System.out.printf("%n%s%n", name);
+            long count = Math.max(1, histogram.count());
+            for (long[] bucket : histogram.buckets()) {
+                System.out.printf("  <= %10.1f ms %8d  %s%n", bucket[0] / 1000.0, bucket[1],
+                        "#".repeat((int) (60 * bucket[1] / count)));
+            }
+        });
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private record Endpoint(String name, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.devcollab.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for the Gemini and GitHub APIs used by the load-test profile, with configurable
+ * latency and error rates. Run with:
+ * <pre>
+ * java -cp target/test-classes com.devcollab.loadtest.LoadTestStubServer
+ * </pre>
+ * System properties: {@code stub.port} (8089), {@code stub.gemini.latency-ms} (800),
+ * {@code stub.gemini.jitter-ms} (400), {@code stub.gemini.error-rate} (0.02),
+ * {@code stub.github.latency-ms} (150), {@code stub.github.jitter-ms} (50), {@code stub.github.error-rate} (0.0).
+ */
+public final class LoadTestStubServer {
+
+    private static final Pattern BATCH_CANDIDATE = Pattern.compile("Candidate (\\d+):");
+
+    private final Latency gemini = new Latency("stub.gemini", 800, 400, 0.02);
+    private final Latency github = new Latency("stub.github", 150, 50, 0.0);
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("stub.port", 8089);
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+
+        LoadTestStubServer stubs = new LoadTestStubServer();
+        server.createContext("/gemini/", stubs::handleGemini);
+        server.createContext("/github/", stubs::handleGitHub);
+        server.start();
+        System.out.printf("Stub server listening on port %d (gemini %s, github %s)%n", port, stubs.gemini, stubs.github);
+    }
+
+    private void handleGemini(HttpExchange exchange) throws IOException {
+        String request = read(exchange.getRequestBody());
+        if (!gemini.await()) {
+            respond(exchange, 503, "{\"error\":{\"code\":503,\"message\":\"Stubbed outage\"}}");
+            return;
+        }
+
+        String text;
+        if (request.contains("responseMimeType")) {
+            // Batched prompt: answer every numbered candidate
+            StringBuilder array = new StringBuilder("[");
+            Matcher matcher = BATCH_CANDIDATE.matcher(request);
+            while (matcher.find()) {
+                if (array.length() > 1) {
+                    array.append(',');
+                }
+                array.append("{\"candidate\":").append(matcher.group(1))
+                        .append(",\"explanation\":\"Stubbed explanation for candidate ").append(matcher.group(1)).append(".\"}");
+            }
+            text = array.append(']').toString();
+        } else {
+            text = "Stubbed explanation: these developers share skills and interests.";
+        }
+        respond(exchange, 200, "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + escape(text) + "\"}]}}]}");
+    }
+
+    private void handleGitHub(HttpExchange exchange) throws IOException {
+        read(exchange.getRequestBody());
+        if (!github.await()) {
+            respond(exchange, 502, "{\"message\":\"Stubbed outage\"}");
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/login/oauth/access_token")) {
+            respond(exchange, 200, "{\"access_token\":\"stub-token\",\"token_type\":\"bearer\"}");
+        } else if (path.startsWith("/github/users/")) {
+            String login = path.substring("/github/users/".length());
+            respond(exchange, 200, "{\"login\":\"" + escape(login) + "\",\"public_repos\":12,\"followers\":34}");
+        } else {
+            respond(exchange, 404, "{\"message\":\"Not Found\"}");
+        }
+    }
+
+    private static String read(InputStream body) throws IOException {
+        try (body) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Simulated latency and failure rate of one upstream
+     */
+    private static final class Latency {
+
+        private final long latencyMs;
+        private final long jitterMs;
+        private final double errorRate;
+
+        Latency(String prefix, long latencyMs, long jitterMs, double errorRate) {
+            this.latencyMs = Long.getLong(prefix + ".latency-ms", latencyMs);
+            this.jitterMs = Long.getLong(prefix + ".jitter-ms", jitterMs);
+            this.errorRate = Double.parseDouble(System.getProperty(prefix + ".error-rate", String.valueOf(errorRate)));
+        }
+
+        /**
+         * Sleep for a simulated response time
+         * @return false if this call should fail
+         */
+        boolean await() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = latencyMs + (jitterMs > 0 ? random.nextLong(-jitterMs, jitterMs + 1) : 0);
+            try {
+                Thread.sleep(Math.max(0, delay));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return random.nextDouble() >= errorRate;
+        }
+
+        @Override
+        public String toString() {
+            return latencyMs + " +/- " + jitterMs + " ms, error rate " + errorRate;
+        }
+    }
+}
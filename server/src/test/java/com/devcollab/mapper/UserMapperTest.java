@@ -0,0 +1,82 @@
+package com.devcollab.mapper;
+
+import com.devcollab.dto.response.UserResponse;
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import com.devcollab.repository.projection.UserInterestRow;
+import com.devcollab.repository.projection.UserRow;
+import com.devcollab.repository.projection.UserSkillRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserMapperTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final UserMapper mapper = new UserMapper(new SkillMapper());
+
+    @Test
+    void groupsSkillAndInterestRowsByUserInRowOrder() {
+        List<UserResponse> responses = mapper.toResponses(
+                List.of(row(2L), row(1L), row(3L)),
+                List.of(skillRow(1L, 10L, "Java"), skillRow(2L, 20L, "React"), skillRow(1L, 20L, "React"),
+                        skillRow(99L, 10L, "Java")),
+                List.of(new UserInterestRow(2L, "ai"), new UserInterestRow(1L, "web"), new UserInterestRow(2L, "games")));
+
+        assertThat(responses).extracting(UserResponse::getId).containsExactly(2L, 1L, 3L);
+        assertThat(responses.get(0).getSkills()).extracting("name").containsExactly("React");
+        assertThat(responses.get(0).getInterests()).containsExactlyInAnyOrder("ai", "games");
+        assertThat(responses.get(1).getSkills()).extracting("name").containsExactlyInAnyOrder("Java", "React");
+        assertThat(responses.get(1).getInterests()).containsExactly("web");
+        assertThat(responses.get(2).getSkills()).isEmpty();
+        assertThat(responses.get(2).getInterests()).isEmpty();
+    }
+
+    @Test
+    void matchesTheEntityMapping() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user1@example.com");
+        user.setFullName("User 1");
+        user.setBio("Bio");
+        user.setGithubUsername("user1");
+        user.setTimezone("UTC");
+        user.setHoursPerWeek(10);
+        user.setExperienceLevel(User.ExperienceLevel.EXPERT);
+        user.setActive(true);
+        user.setCreatedAt(CREATED);
+        user.setUpdatedAt(CREATED);
+        user.setInterests(new HashSet<>(Set.of("ai", "web")));
+        user.setSkills(new HashSet<>(Set.of(skill(10L, "Java"), skill(20L, "React"))));
+
+        List<UserResponse> fromRows = mapper.toResponses(List.of(row(1L)),
+                List.of(skillRow(1L, 10L, "Java"), skillRow(1L, 20L, "React")),
+                List.of(new UserInterestRow(1L, "ai"), new UserInterestRow(1L, "web")));
+
+        assertThat(fromRows).singleElement().usingRecursiveComparison().isEqualTo(mapper.toResponse(user));
+    }
+
+    private static UserRow row(Long id) {
+        return new UserRow(id, "user" + id + "@example.com", "User " + id, "Bio", "user" + id, null, "UTC", 10,
+                User.ExperienceLevel.EXPERT, true, CREATED, CREATED);
+    }
+
+    private static UserSkillRow skillRow(Long userId, Long skillId, String name) {
+        return new UserSkillRow(userId, skillId, name, Skill.SkillCategory.BACKEND, name + " development");
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        skill.setCategory(Skill.SkillCategory.BACKEND);
+        skill.setDescription(name + " development");
+        return skill;
+    }
+}
@@ -0,0 +1,255 @@
+package com.devcollab.matching;
+
+import com.devcollab.event.ProjectChangedEvent;
+import com.devcollab.event.ProjectDeletedEvent;
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.model.Project;
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import com.devcollab.repository.ProjectRepository;
+import com.devcollab.repository.UserRepository;
+import com.devcollab.repository.projection.ProjectTitleRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateIndexTest {
+
+    private static final CandidateQuery ALL = new CandidateQuery(null, null, null, null);
+
+    private final MatchScoringEngine engine = new MatchScoringEngine();
+    private final CandidateIndex index = new CandidateIndex(null, null, engine);
+    private CandidateIndex rebuilding;
+
+    @BeforeEach
+    void index() {
+        put(user(1L, 10, 10L));
+        put(user(2L, null, 20L));
+        put(user(3L, 40, 10L, 20L));
+    }
+
+    @Test
+    void findsEveryIndexedUserWithoutClauses() {
+        assertThat(ids(index.find(ALL))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.get(2L).userId()).isEqualTo(2L);
+        assertThat(index.get(99L)).isNull();
+    }
+
+    @Test
+    void excludesUsersWithoutHoursFromAMinimumInFindAndMatches() {
+        CandidateQuery anyHours = new CandidateQuery(null, null, null, 0);
+        assertThat(ids(index.find(anyHours))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.matches(index.get(2L), anyHours)).isFalse();
+
+        CandidateQuery twenty = new CandidateQuery(Set.of(10L, 20L), null, null, 20);
+        assertThat(ids(index.find(twenty))).containsExactly(3L);
+        for (long id = 1; id <= 3; id++) {
+            assertThat(index.matches(index.get(id), twenty)).isEqualTo(id == 3L);
+        }
+    }
+
+    @Test
+    void removesDeactivatedUsersFromEveryPostingList() {
+        User user = user(3L, 40, 10L, 20L);
+        user.setActive(false);
+        put(user);
+
+        assertThat(index.get(3L)).isNull();
+        assertThat(ids(index.find(ALL))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.find(new CandidateQuery(Set.of(20L), null, null, null)))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void reusesFreedSlotsWithoutLeakingTheirPostings() {
+        User removed = user(1L, 10, 10L);
+        removed.setActive(false);
+        put(removed);
+        put(user(4L, 5, 30L));
+
+        assertThat(ids(index.find(new CandidateQuery(Set.of(10L), null, null, null)))).containsExactly(3L);
+        assertThat(ids(index.find(new CandidateQuery(Set.of(30L), null, null, null)))).containsExactly(4L);
+        assertThat(ids(index.find(ALL))).containsExactlyInAnyOrder(2L, 3L, 4L);
+
+        // Changing a profile moves the user between posting lists
+        put(user(4L, 5, 10L));
+        assertThat(ids(index.find(new CandidateQuery(Set.of(10L), null, null, null)))).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(ids(index.find(new CandidateQuery(Set.of(30L), null, null, null)))).isEmpty();
+    }
+
+    @Test
+    void filtersBySkillsThroughTheUnionOfTheirPostingLists() {
+        assertThat(ids(index.find(new CandidateQuery(Set.of(10L), null, null, null)))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(index.find(new CandidateQuery(Set.of(10L, 20L), null, null, null)))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(index.find(new CandidateQuery(Set.of(99L), null, null, null)))).isEmpty();
+    }
+
+    @Test
+    void filtersByInterestsThroughTheUnionOfTheirPostingLists() {
+        put(withProfile(user(4L, 10, 10L), User.ExperienceLevel.BEGINNER, "ai", "web"));
+        put(withProfile(user(5L, 10, 20L), User.ExperienceLevel.EXPERT, "games"));
+
+        assertThat(ids(index.find(new CandidateQuery(null, Set.of("web"), null, null)))).containsExactly(4L);
+        assertThat(ids(index.find(new CandidateQuery(null, Set.of("web", "games"), null, null))))
+                .containsExactlyInAnyOrder(4L, 5L);
+        assertThat(ids(index.find(new CandidateQuery(null, Set.of("music"), null, null)))).isEmpty();
+    }
+
+    @Test
+    void findsUsersSharingASkillOrInterest() {
+        put(withProfile(user(4L, 10, 30L), User.ExperienceLevel.BEGINNER, "ai"));
+        put(withProfile(user(5L, 10, 40L), User.ExperienceLevel.BEGINNER, "games"));
+
+        MatchFeatures features = engine.encode(withProfile(user(9L, 10, 20L), User.ExperienceLevel.EXPERT, "ai"));
+        assertThat(ids(index.findSharing(features))).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(index.findSharing(engine.encode(user(9L, 10)))).isEmpty();
+    }
+
+    @Test
+    void filtersByExperienceLevel() {
+        put(withProfile(user(4L, 10, 10L), User.ExperienceLevel.BEGINNER, "ai"));
+        put(withProfile(user(5L, 10, 20L), User.ExperienceLevel.EXPERT, "ai"));
+
+        assertThat(ids(index.find(new CandidateQuery(null, null, User.ExperienceLevel.EXPERT, null)))).containsExactly(5L);
+        assertThat(ids(index.find(new CandidateQuery(null, null, User.ExperienceLevel.INTERMEDIATE, null)))).isEmpty();
+    }
+
+    @Test
+    void intersectsCombinedClausesAndAgreesWithMatches() {
+        put(withProfile(user(4L, 10, 10L), User.ExperienceLevel.BEGINNER, "ai", "web"));
+        put(withProfile(user(5L, 30, 10L, 20L), User.ExperienceLevel.EXPERT, "ai"));
+        put(withProfile(user(6L, 5, 20L), User.ExperienceLevel.EXPERT, "web"));
+        put(withProfile(user(7L, 50, 30L), User.ExperienceLevel.EXPERT, "ai"));
+
+        CandidateQuery query = new CandidateQuery(Set.of(10L, 20L), Set.of("ai", "web"), User.ExperienceLevel.EXPERT, 10);
+        assertThat(ids(index.find(query))).containsExactly(5L);
+        for (MatchFeatures features : index.find(ALL)) {
+            assertThat(index.matches(features, query)).isEqualTo(features.userId() == 5L);
+        }
+        assertThat(ids(index.find(new CandidateQuery(Set.of(10L, 20L), Set.of("web"), User.ExperienceLevel.EXPERT, null))))
+                .containsExactly(6L);
+        assertThat(ids(index.find(new CandidateQuery(Set.of(30L), Set.of("web"), null, null)))).isEmpty();
+    }
+
+    @Test
+    void replaysChangesReceivedWhileARebuildLoads() {
+        CandidateIndex rebuilt = new CandidateIndex(userRepository(() -> {
+            List<User> loaded = List.of(user(1L, 10, 10L), user(2L, 20, 20L));
+            // Committed after the users were read
+            User updated = user(1L, 10, 30L);
+            User deactivated = user(2L, 20, 20L);
+            deactivated.setActive(false);
+            rebuilding.onUserProfileChanged(new UserProfileChangedEvent(updated));
+            rebuilding.onUserProfileChanged(new UserProfileChangedEvent(deactivated));
+            rebuilding.onUserProfileChanged(new UserProfileChangedEvent(user(3L, 30, 10L)));
+            return loaded;
+        }), projectRepository(List.of()), engine);
+        rebuilding = rebuilt;
+
+        rebuilt.rebuild();
+
+        assertThat(ids(rebuilt.find(ALL))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(rebuilt.find(new CandidateQuery(Set.of(30L), null, null, null)))).containsExactly(1L);
+        assertThat(ids(rebuilt.find(new CandidateQuery(Set.of(10L), null, null, null)))).containsExactly(3L);
+        assertThat(rebuilt.get(2L)).isNull();
+
+        rebuilt.onUserProfileChanged(new UserProfileChangedEvent(user(2L, 20, 20L)));
+        assertThat(ids(rebuilt.find(ALL))).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void keepsTheFirstProjectTitlesOfEachCreatorInItsProfile() {
+        List<ProjectTitleRow> projects = new ArrayList<>(List.of(
+                new ProjectTitleRow(1L, 1L, "Compiler"), new ProjectTitleRow(2L, 1L, "Debugger"),
+                new ProjectTitleRow(3L, 2L, "Engine"), new ProjectTitleRow(4L, 1L, "Linker"),
+                new ProjectTitleRow(5L, 1L, "Profiler")));
+        CandidateIndex indexed = new CandidateIndex(userRepository(() -> List.of(user(1L, 10, 10L), user(3L, 10, 10L))),
+                projectRepository(projects), engine);
+        indexed.rebuild();
+
+        assertThat(indexed.profile(1L).projectTitles()).containsExactly("Compiler", "Debugger", "Linker");
+        assertThat(indexed.profile(3L).projectTitles()).isEmpty();
+        assertThat(indexed.profile(2L)).isNull();
+
+        projects.remove(1);
+        indexed.onProjectDeleted(new ProjectDeletedEvent(2L));
+        assertThat(indexed.profile(1L).projectTitles()).containsExactly("Compiler", "Linker", "Profiler");
+
+        // Profile updates keep the titles, and projects of other creators leave them alone
+        User renamed = user(1L, 10, 10L);
+        renamed.setFullName("Ada");
+        indexed.onUserProfileChanged(new UserProfileChangedEvent(renamed));
+        projects.add(new ProjectTitleRow(6L, 3L, "Shell"));
+        indexed.onProjectChanged(new ProjectChangedEvent(project(6L, user(3L, 10, 10L))));
+        indexed.onProjectDeleted(new ProjectDeletedEvent(5L));
+
+        assertThat(indexed.profile(1L).fullName()).isEqualTo("Ada");
+        assertThat(indexed.profile(1L).projectTitles()).containsExactly("Compiler", "Linker", "Profiler");
+        assertThat(indexed.profile(3L).projectTitles()).containsExactly("Shell");
+    }
+
+    private static UserRepository userRepository(Supplier<List<User>> activeUsers) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByActiveTrue" -> activeUsers.get();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static ProjectRepository projectRepository(List<ProjectTitleRow> projects) {
+        return (ProjectRepository) Proxy.newProxyInstance(ProjectRepository.class.getClassLoader(),
+                new Class<?>[]{ProjectRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllTitleRows" -> List.copyOf(projects);
+                    case "findTitleRowsByCreatorId" -> projects.stream()
+                            .filter(row -> row.creatorId().equals(args[0]))
+                            .toList();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Project project(Long id, User creator) {
+        Project project = new Project();
+        project.setId(id);
+        project.setCreator(creator);
+        return project;
+    }
+
+    private void put(User user) {
+        index.onUserProfileChanged(new UserProfileChangedEvent(user));
+    }
+
+    private static User withProfile(User user, User.ExperienceLevel experienceLevel, String... interests) {
+        user.setExperienceLevel(experienceLevel);
+        user.setInterests(new HashSet<>(Set.of(interests)));
+        return user;
+    }
+
+    private static long[] ids(MatchFeatures[] features) {
+        return Arrays.stream(features).mapToLong(MatchFeatures::userId).toArray();
+    }
+
+    private static User user(Long id, Integer hoursPerWeek, Long... skillIds) {
+        User user = new User();
+        user.setId(id);
+        user.setActive(true);
+        user.setHoursPerWeek(hoursPerWeek);
+        Set<Skill> skills = new HashSet<>();
+        for (Long skillId : skillIds) {
+            Skill skill = new Skill();
+            skill.setId(skillId);
+            skills.add(skill);
+        }
+        user.setSkills(skills);
+        return user;
+    }
+}
@@ -0,0 +1,74 @@
+package com.devcollab.matching;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateRankerTest {
+
+    private final MatchScoringEngine engine = new MatchScoringEngine();
+    private final CandidateRanker sequential = new CandidateRanker(engine, Integer.MAX_VALUE, 1, 1);
+    private final CandidateRanker parallel = new CandidateRanker(engine, 0, 97, 4);
+
+    @AfterEach
+    void shutdown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test
+    void parallelRankingMatchesSequentialRanking() {
+        Random random = new Random(3);
+        MatchFeatures[] candidates = new MatchFeatures[5_000];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = randomFeatures(random, i);
+        }
+        MatchFeatures user = candidates[42];
+
+        TopKSelector expected = sequential.rank(user, candidates, 25);
+        TopKSelector actual = parallel.rank(user, candidates, 25);
+        expected.finish();
+        actual.finish();
+
+        assertThat(actual.size()).isEqualTo(25);
+        for (int rank = 0; rank < expected.size(); rank++) {
+            assertThat(actual.id(rank)).isEqualTo(expected.id(rank));
+            assertThat(actual.score(rank)).isEqualTo(expected.score(rank));
+            assertThat(actual.payload(rank)).isEqualTo(expected.payload(rank));
+            assertThat(actual.id(rank)).isNotEqualTo(user.userId());
+        }
+    }
+
+    @Test
+    void ranksForProjectByRequiredSkillCoverage() {
+        ProjectFeatures project = new ProjectFeatures(1L, Bitsets.of(new int[]{1, 2, 3, 4}), Bitsets.EMPTY, new long[]{5L});
+        MatchFeatures user = features(10L, 0);
+        MatchFeatures[] candidates = {
+                features(11L, 1), features(12L, 1, 2, 3), features(13L, 7), features(5L, 1, 2, 3, 4), features(14L, 2, 3, 9)
+        };
+
+        TopKSelector topK = sequential.rankForProject(user, project, candidates, 10);
+        topK.finish();
+
+        assertThat(topK.size()).isEqualTo(3);
+        assertThat(topK.id(0)).isEqualTo(12L);
+        assertThat(CandidateRanker.coverageOf(topK.score(0))).isEqualTo(75);
+        assertThat(topK.id(1)).isEqualTo(14L);
+        assertThat(CandidateRanker.coverageOf(topK.score(1))).isEqualTo(50);
+        assertThat(topK.id(2)).isEqualTo(11L);
+    }
+
+    private static MatchFeatures features(long userId, int... skills) {
+        return new MatchFeatures(userId, -1, -1, -1, Bitsets.of(skills), Bitsets.EMPTY);
+    }
+
+    private static MatchFeatures randomFeatures(Random random, long userId) {
+        int[] skills = random.ints(random.nextInt(8), 0, 120).toArray();
+        int[] interests = random.ints(random.nextInt(4), 0, 10).toArray();
+        return new MatchFeatures(userId, random.nextInt(4), 5 + random.nextInt(3) * 5, random.nextInt(3),
+                Bitsets.of(skills), Bitsets.of(interests));
+    }
+}
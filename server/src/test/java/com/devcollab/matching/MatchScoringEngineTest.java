@@ -0,0 +1,135 @@
+package com.devcollab.matching;
+
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchScoringEngineTest {
+
+    private final MatchScoringEngine engine = new MatchScoringEngine();
+
+    @Test
+    void scoresIdenticalProfilesAtFullMarks() {
+        User user = user(1L, User.ExperienceLevel.ADVANCED, 10, "UTC", Set.of(1L, 2L, 3L, 4L, 5L), Set.of("ai", "web", "games"));
+        User candidate = user(2L, User.ExperienceLevel.ADVANCED, 10, "UTC", Set.of(1L, 2L, 3L, 4L, 5L), Set.of("ai", "web", "games"));
+
+        long evaluation = engine.evaluate(engine.encode(user), engine.encode(candidate));
+
+        assertThat(MatchScoringEngine.scoreOf(evaluation)).isEqualTo(100);
+        assertThat(MatchScoringEngine.commonSkillsOf(evaluation)).isEqualTo(5);
+        assertThat(MatchScoringEngine.commonInterestsOf(evaluation)).isEqualTo(3);
+    }
+
+    @Test
+    void ignoresUnsetAttributes() {
+        User user = user(1L, null, null, null, Set.of(), Set.of());
+        User candidate = user(2L, User.ExperienceLevel.EXPERT, null, null, Set.of(7L), Set.of("ai"));
+
+        long evaluation = engine.evaluate(engine.encode(user), engine.encode(candidate));
+
+        assertThat(MatchScoringEngine.scoreOf(evaluation)).isZero();
+        assertThat(MatchScoringEngine.commonSkillsOf(evaluation)).isZero();
+        assertThat(MatchScoringEngine.commonInterestsOf(evaluation)).isZero();
+    }
+
+    @Test
+    void matchesSetBasedScoringOnRandomProfiles() {
+        Random random = new Random(42);
+        List<String> interestPool = List.of("ai", "web", "games", "fintech", "health", "iot", "devtools", "edu");
+        User.ExperienceLevel[] levels = User.ExperienceLevel.values();
+
+        for (int i = 0; i < 500; i++) {
+            User user = randomUser(random, 2L * i, levels, interestPool);
+            User candidate = randomUser(random, 2L * i + 1, levels, interestPool);
+
+            long evaluation = engine.evaluate(engine.encode(user), engine.encode(candidate));
+
+            assertThat(MatchScoringEngine.scoreOf(evaluation)).isEqualTo(referenceScore(user, candidate));
+            assertThat(MatchScoringEngine.commonSkillsOf(evaluation)).isEqualTo(intersection(skillIds(user), skillIds(candidate)));
+            assertThat(MatchScoringEngine.commonInterestsOf(evaluation)).isEqualTo(intersection(user.getInterests(), candidate.getInterests()));
+        }
+    }
+
+    @Test
+    void encodesSkillsAndInterestsAsOrdinalBits() {
+        MatchFeatures features = engine.encode(user(1L, User.ExperienceLevel.BEGINNER, 5, "UTC", Set.of(3L, 8L), Set.of("ai")));
+
+        assertThat(Bitsets.toArray(features.skillBits()))
+                .containsExactlyInAnyOrder(engine.skillOrdinal(3L), engine.skillOrdinal(8L));
+        assertThat(Bitsets.get(features.interestBits(), engine.interestOrdinal("ai"))).isTrue();
+        assertThat(engine.skillOrdinal(99L)).isEqualTo(-1);
+        assertThat(engine.interestOrdinal("unknown")).isEqualTo(-1);
+    }
+
+    /**
+     * The original HashSet-based scoring rules
+     */
+    private static int referenceScore(User user, User candidate) {
+        int score = 0;
+        if (user.getExperienceLevel() != null && candidate.getExperienceLevel() != null) {
+            int difference = Math.abs(user.getExperienceLevel().ordinal() - candidate.getExperienceLevel().ordinal());
+            score += difference == 0 ? 40 : difference == 1 ? 30 : difference == 2 ? 20 : 10;
+        }
+        score += Math.min(30, intersection(user.getInterests(), candidate.getInterests()) * 10);
+        if (user.getTimezone() != null && user.getTimezone().equals(candidate.getTimezone())) {
+            score += 10;
+        }
+        if (user.getHoursPerWeek() != null && user.getHoursPerWeek().equals(candidate.getHoursPerWeek())) {
+            score += 10;
+        }
+        score += Math.min(10, intersection(skillIds(user), skillIds(candidate)) * 2);
+        return Math.min(100, score);
+    }
+
+    private static <T> int intersection(Set<T> a, Set<T> b) {
+        Set<T> shared = new HashSet<>(a);
+        shared.retainAll(b);
+        return shared.size();
+    }
+
+    private static Set<Long> skillIds(User user) {
+        return user.getSkills().stream().map(Skill::getId).collect(Collectors.toSet());
+    }
+
+    private static User randomUser(Random random, long id, User.ExperienceLevel[] levels, List<String> interestPool) {
+        Set<Long> skills = new HashSet<>();
+        for (int i = random.nextInt(12); i > 0; i--) {
+            skills.add((long) random.nextInt(200));
+        }
+        Set<String> interests = new HashSet<>();
+        for (int i = random.nextInt(5); i > 0; i--) {
+            interests.add(interestPool.get(random.nextInt(interestPool.size())));
+        }
+        return user(id,
+                random.nextInt(5) == 0 ? null : levels[random.nextInt(levels.length)],
+                random.nextBoolean() ? 5 + random.nextInt(3) * 5 : null,
+                random.nextBoolean() ? (random.nextBoolean() ? "UTC" : "PST") : null,
+                skills, interests);
+    }
+
+    private static User user(Long id, User.ExperienceLevel level, Integer hours, String timezone,
+                             Set<Long> skillIds, Set<String> interests) {
+        User user = new User();
+        user.setId(id);
+        user.setExperienceLevel(level);
+        user.setHoursPerWeek(hours);
+        user.setTimezone(timezone);
+        user.setInterests(new HashSet<>(interests));
+        user.setSkills(skillIds.stream().map(skillId -> {
+            Skill skill = new Skill();
+            skill.setId(skillId);
+            skill.setName("skill-" + skillId);
+            skill.setCategory(Skill.SkillCategory.OTHER);
+            return skill;
+        }).collect(Collectors.toSet()));
+        return user;
+    }
+}
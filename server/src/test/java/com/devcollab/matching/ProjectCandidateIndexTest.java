@@ -0,0 +1,114 @@
+package com.devcollab.matching;
+
+import com.devcollab.event.ProjectChangedEvent;
+import com.devcollab.event.ProjectDeletedEvent;
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.model.Project;
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectCandidateIndexTest {
+
+    private final MatchScoringEngine engine = new MatchScoringEngine();
+    private final CandidateIndex candidateIndex = new CandidateIndex(null, null, engine);
+    private final ProjectCandidateIndex index = new ProjectCandidateIndex(null, candidateIndex, engine);
+
+    private User creator;
+    private User candidate;
+
+    @BeforeEach
+    void index() {
+        creator = user(1L, 10L);
+        candidate = user(2L, 10L, 20L, 30L);
+        project(100L, creator, 5, 10L, 20L);      // Missing 20
+        project(200L, creator, 5, 20L, 30L, 40L); // Missing 20, 30, 40
+        project(300L, creator, 1, 30L);           // Full
+        project(400L, candidate, 5, 40L);         // Own project
+    }
+
+    @Test
+    void ranksOpenProjectsByMissingSkillsFilled() {
+        TopKSelector topK = index.rank(candidateIndex.get(2L), 10);
+        topK.finish();
+
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(topK.id(0)).isEqualTo(200L);
+        assertThat(ProjectCandidateIndex.filledOf(topK.payload(0))).isEqualTo(2);
+        assertThat(ProjectCandidateIndex.missingOf(topK.payload(0))).isEqualTo(3);
+        assertThat(ProjectCandidateIndex.coverageOf(topK.score(0))).isEqualTo(66);
+        assertThat(topK.id(1)).isEqualTo(100L);
+        assertThat(ProjectCandidateIndex.coverageOf(topK.score(1))).isEqualTo(100);
+    }
+
+    @Test
+    void followsMemberSkillsAndProjectChanges() {
+        creator.getSkills().add(skill(20L));
+        UserProfileChangedEvent event = new UserProfileChangedEvent(creator);
+        candidateIndex.onUserProfileChanged(event);
+        index.onUserProfileChanged(event);
+        index.onProjectDeleted(new ProjectDeletedEvent(200L));
+
+        TopKSelector topK = index.rank(candidateIndex.get(2L), 10);
+        topK.finish();
+
+        assertThat(topK.size()).isZero();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheMembersMissingFromTheCandidateIndex() {
+        User late = new User();
+        late.setId(3L);
+        late.setActive(true);
+        late.setSkills(new HashSet<>(Set.of(skill(50L))));
+        project(500L, late, 5, 50L, 10L);
+        assertThat(index.get(500L).missingSkillBits()).isEqualTo(index.get(500L).requiredSkillBits());
+
+        UserProfileChangedEvent event = new UserProfileChangedEvent(late);
+        candidateIndex.onUserProfileChanged(event);
+        index.onUserProfileChanged(event);
+        project(600L, late, 5, 50L);
+
+        assertThat(index.get(500L).missingSkillBits()).isEqualTo(Bitsets.of(new int[]{engine.skillOrdinal(10L)}));
+        assertThat(Bitsets.cardinality(index.get(600L).missingSkillBits())).isZero();
+    }
+
+    private void project(Long id, User owner, int maxTeamSize, Long... skillIds) {
+        Project project = new Project();
+        project.setId(id);
+        project.setCreator(owner);
+        project.setIsOpen(true);
+        project.setMaxTeamSize(maxTeamSize);
+        project.setCurrentTeamSize(1);
+        for (Long skillId : skillIds) {
+            project.getRequiredSkills().add(skill(skillId));
+        }
+        index.onProjectChanged(new ProjectChangedEvent(project));
+    }
+
+    private User user(Long id, Long... skillIds) {
+        User user = new User();
+        user.setId(id);
+        user.setActive(true);
+        Set<Skill> skills = new HashSet<>();
+        for (Long skillId : skillIds) {
+            skills.add(skill(skillId));
+        }
+        user.setSkills(skills);
+        candidateIndex.onUserProfileChanged(new UserProfileChangedEvent(user));
+        return user;
+    }
+
+    private static Skill skill(Long id) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        return skill;
+    }
+}
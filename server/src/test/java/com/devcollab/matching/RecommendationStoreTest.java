@@ -0,0 +1,160 @@
+package com.devcollab.matching;
+
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationStoreTest {
+
+    private static final int CAPACITY = 5;
+    private static final String[] INTERESTS = {"ai", "web", "games", "mobile", "data"};
+    private static final String[] TIMEZONES = {"UTC", "Europe/Berlin", "Asia/Tokyo"};
+
+    private final MatchScoringEngine engine = new MatchScoringEngine();
+    private final CandidateIndex candidateIndex = new CandidateIndex(null, null, engine);
+    private final CandidateRanker ranker = new CandidateRanker(engine, Integer.MAX_VALUE, 1, 1);
+    private final RecommendationStore store = new RecommendationStore(candidateIndex, engine, ranker, CAPACITY, 1000);
+    private final Random random = new Random(11);
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void populate() {
+        for (long id = 1; id <= 60; id++) {
+            User user = new User();
+            user.setId(id);
+            randomize(user);
+            users.add(user);
+            candidateIndex.onUserProfileChanged(new UserProfileChangedEvent(user));
+        }
+        store.requestRebuild();
+        store.refresh();
+    }
+
+    @AfterEach
+    void shutdown() {
+        ranker.shutdown();
+    }
+
+    @Test
+    void patchedListsMatchAFullRecompute() {
+        assertThat(store.size()).isEqualTo(users.size());
+        for (int round = 0; round < 30; round++) {
+            // Several changes per refresh, including score drops on truncated lists
+            for (int change = 0; change < 3; change++) {
+                User user = users.get(random.nextInt(users.size()));
+                randomize(user);
+                changed(user);
+            }
+            store.refresh();
+            assertMatchesRecompute();
+        }
+    }
+
+    @Test
+    void dropsDeactivatedUsersFromEveryList() {
+        User user = users.get(0);
+        long[] before = store.get(user.getId());
+        assertThat(before).isNotNull();
+
+        user.setActive(false);
+        changed(user);
+        assertThat(store.get(user.getId())).isNull();
+        store.refresh();
+
+        assertThat(store.get(user.getId())).isNull();
+        for (User other : users) {
+            if (other != user) {
+                assertThat(store.get(other.getId())).doesNotContain(user.getId());
+            }
+        }
+        assertMatchesRecompute();
+    }
+
+    @Test
+    void seededListsMatchRankingEveryone() {
+        // Users without experience, timezone or hours can only be matched through shared skills and interests
+        for (int i = 0; i < 10; i++) {
+            User user = users.get(i);
+            user.setExperienceLevel(null);
+            user.setTimezone(null);
+            user.setHoursPerWeek(null);
+            changed(user);
+        }
+        store.requestRebuild();
+        store.refresh();
+
+        MatchFeatures[] everyone = candidateIndex.find(new CandidateQuery(null, null, null, null));
+        for (User user : users) {
+            TopKSelector expected = ranker.rank(candidateIndex.get(user.getId()), everyone, CAPACITY);
+            expected.finish();
+            long[] ids = new long[expected.size()];
+            for (int rank = 0; rank < ids.length; rank++) {
+                ids[rank] = expected.id(rank);
+            }
+            assertThat(store.get(user.getId())).as("list of user %d", user.getId()).isEqualTo(ids);
+        }
+    }
+
+    @Test
+    void keepsNoListsBeyondTheUserLimit() {
+        RecommendationStore limited = new RecommendationStore(candidateIndex, engine, ranker, CAPACITY, users.size() - 1);
+        limited.requestRebuild();
+        limited.refresh();
+        assertThat(limited.size()).isZero();
+
+        User user = users.get(0);
+        user.setActive(false);
+        changed(user);
+        limited.refresh();
+
+        assertThat(limited.size()).isEqualTo(users.size() - 1);
+    }
+
+    private void changed(User user) {
+        UserProfileChangedEvent event = new UserProfileChangedEvent(user);
+        candidateIndex.onUserProfileChanged(event);
+        store.onUserProfileChanged(event);
+    }
+
+    private void assertMatchesRecompute() {
+        RecommendationStore expected = new RecommendationStore(candidateIndex, engine, ranker, CAPACITY, 1000);
+        expected.requestRebuild();
+        expected.refresh();
+        assertThat(store.size()).isEqualTo(expected.size());
+        for (User user : users) {
+            assertThat(store.get(user.getId())).as("list of user %d", user.getId())
+                    .isEqualTo(expected.get(user.getId()));
+        }
+    }
+
+    private void randomize(User user) {
+        user.setActive(true);
+        User.ExperienceLevel[] levels = User.ExperienceLevel.values();
+        user.setExperienceLevel(levels[random.nextInt(levels.length)]);
+        user.setTimezone(TIMEZONES[random.nextInt(TIMEZONES.length)]);
+        user.setHoursPerWeek(5 + random.nextInt(3) * 5);
+        Set<Skill> skills = new HashSet<>();
+        for (int i = random.nextInt(5); i > 0; i--) {
+            Skill skill = new Skill();
+            skill.setId((long) random.nextInt(12));
+            skills.add(skill);
+        }
+        user.setSkills(skills);
+        Set<String> interests = new HashSet<>();
+        for (int i = random.nextInt(3); i > 0; i--) {
+            interests.add(INTERESTS[random.nextInt(INTERESTS.length)]);
+        }
+        user.setInterests(interests);
+    }
+}
@@ -0,0 +1,64 @@
+package com.devcollab.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKSelectorTest {
+
+    @Test
+    void selectsSameEntriesAsFullSort() {
+        Random random = new Random(7);
+        List<long[]> entries = new ArrayList<>();
+        TopKSelector selector = new TopKSelector(10);
+        for (long id = 0; id < 1000; id++) {
+            int score = random.nextInt(50);
+            entries.add(new long[]{id, score});
+            selector.offer(id, score, id * 31);
+        }
+        selector.finish();
+
+        entries.sort(Comparator.<long[]>comparingLong(e -> -e[1]).thenComparingLong(e -> e[0]));
+        assertThat(selector.size()).isEqualTo(10);
+        for (int rank = 0; rank < 10; rank++) {
+            assertThat(selector.id(rank)).isEqualTo(entries.get(rank)[0]);
+            assertThat(selector.score(rank)).isEqualTo((int) entries.get(rank)[1]);
+            assertThat(selector.payload(rank)).isEqualTo(entries.get(rank)[0] * 31);
+        }
+    }
+
+    @Test
+    void mergesPartialSelections() {
+        TopKSelector left = new TopKSelector(3);
+        TopKSelector right = new TopKSelector(3);
+        left.offer(1, 10, 0);
+        left.offer(2, 40, 0);
+        right.offer(3, 30, 0);
+        right.offer(4, 40, 0);
+        right.offer(5, 5, 0);
+
+        TopKSelector merged = new TopKSelector(3);
+        merged.merge(left);
+        merged.merge(right);
+        merged.finish();
+
+        assertThat(new long[]{merged.id(0), merged.id(1), merged.id(2)}).containsExactly(2, 4, 3);
+    }
+
+    @Test
+    void keepsFewerEntriesThanCapacity() {
+        TopKSelector selector = new TopKSelector(5);
+        selector.offer(9, 1, 0);
+        selector.offer(8, 2, 0);
+        selector.finish();
+
+        assertThat(selector.size()).isEqualTo(2);
+        assertThat(selector.id(0)).isEqualTo(8);
+        assertThat(new TopKSelector(0).size()).isZero();
+    }
+}
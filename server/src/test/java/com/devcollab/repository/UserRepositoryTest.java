@@ -0,0 +1,122 @@
+package com.devcollab.repository;
+
+import com.devcollab.dto.response.UserResponse;
+import com.devcollab.mapper.SkillMapper;
+import com.devcollab.mapper.UserMapper;
+import com.devcollab.model.Skill;
+import com.devcollab.model.User;
+import com.devcollab.repository.projection.UserInterestRow;
+import com.devcollab.repository.projection.UserRow;
+import com.devcollab.repository.projection.UserSkillRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class UserRepositoryTest {
+
+    private final UserMapper userMapper = new UserMapper(new SkillMapper());
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User ada;
+    private User grace;
+    private User linus;
+    private User inactive;
+
+    @BeforeEach
+    void persistUsers() {
+        Skill java = skill("Java", Skill.SkillCategory.BACKEND);
+        Skill react = skill("React", Skill.SkillCategory.FRONTEND);
+        ada = user("ada@example.com", true, Set.of(java, react), Set.of("compilers", "ai"));
+        grace = user("grace@example.com", true, Set.of(), Set.of());
+        inactive = user("old@example.com", false, Set.of(java), Set.of("ai"));
+        linus = user("linus@example.com", true, Set.of(java), Set.of());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesActiveUsersInIdOrder() {
+        List<UserRow> first = userRepository.findActiveUserRows(0L, Limit.of(2));
+        assertThat(first).extracting(UserRow::id).containsExactly(ada.getId(), grace.getId());
+
+        List<UserRow> second = userRepository.findActiveUserRows(grace.getId(), Limit.of(2));
+        assertThat(second).extracting(UserRow::id).containsExactly(linus.getId());
+        assertThat(second.get(0).email()).isEqualTo("linus@example.com");
+        assertThat(second.get(0).active()).isTrue();
+    }
+
+    @Test
+    void loadsSkillAndInterestRowsOfTheRequestedUsersOnly() {
+        List<Long> userIds = List.of(ada.getId(), grace.getId());
+
+        assertThat(userRepository.findSkillRowsByUserIds(userIds))
+                .extracting(UserSkillRow::userId, UserSkillRow::name, UserSkillRow::category)
+                .containsExactlyInAnyOrder(
+                        tuple(ada.getId(), "Java", Skill.SkillCategory.BACKEND),
+                        tuple(ada.getId(), "React", Skill.SkillCategory.FRONTEND));
+        assertThat(userRepository.findInterestRowsByUserIds(userIds))
+                .extracting(UserInterestRow::userId, UserInterestRow::interest)
+                .containsExactlyInAnyOrder(
+                        tuple(ada.getId(), "compilers"),
+                        tuple(ada.getId(), "ai"));
+    }
+
+    @Test
+    void assemblesTheSameResponsesAsTheEntityMapping() {
+        List<UserRow> rows = userRepository.findActiveUserRows(0L, Limit.of(10));
+        List<Long> userIds = rows.stream().map(UserRow::id).toList();
+        List<UserResponse> fromRows = userMapper.toResponses(rows,
+                userRepository.findSkillRowsByUserIds(userIds), userRepository.findInterestRowsByUserIds(userIds));
+
+        List<UserResponse> fromEntities = userRepository.findByActiveTrue().stream()
+                .sorted(Comparator.comparing(User::getId))
+                .map(userMapper::toResponse)
+                .toList();
+
+        assertThat(fromRows).extracting(UserResponse::getId)
+                .containsExactly(ada.getId(), grace.getId(), linus.getId())
+                .doesNotContain(inactive.getId());
+        assertThat(fromRows).usingRecursiveComparison().isEqualTo(fromEntities);
+        assertThat(fromRows.get(1).getSkills()).isEmpty();
+        assertThat(fromRows.get(1).getInterests()).isEmpty();
+    }
+
+    private Skill skill(String name, Skill.SkillCategory category) {
+        Skill skill = new Skill();
+        skill.setName(name);
+        skill.setCategory(category);
+        skill.setDescription(name + " development");
+        return entityManager.persist(skill);
+    }
+
+    private User user(String email, boolean active, Set<Skill> skills, Set<String> interests) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFullName(email.substring(0, email.indexOf('@')));
+        user.setBio("Bio of " + email);
+        user.setTimezone("UTC");
+        user.setHoursPerWeek(10);
+        user.setExperienceLevel(User.ExperienceLevel.INTERMEDIATE);
+        user.setActive(active);
+        user.setSkills(new HashSet<>(skills));
+        user.setInterests(new HashSet<>(interests));
+        return entityManager.persist(user);
+    }
+}
@@ -0,0 +1,74 @@
+package com.devcollab.search;
+
+import com.devcollab.event.ProjectChangedEvent;
+import com.devcollab.event.ProjectDeletedEvent;
+import com.devcollab.model.Project;
+import com.devcollab.model.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectSearchIndexTest {
+
+    private static final ProjectSearchIndex.Filters NO_FILTERS = new ProjectSearchIndex.Filters(null, null, null, null);
+
+    private final ProjectSearchIndex index = new ProjectSearchIndex(null);
+
+    @BeforeEach
+    void index() {
+        index(1L, "Chess engine", "A fast engine written in Rust", Set.of("games"), Project.ProjectType.SIDE_PROJECT, 10L);
+        index(2L, "Weather app", "Mobile app showing a chess-like weather grid", Set.of("mobile"), Project.ProjectType.HACKATHON, 20L);
+        index(3L, "Rust web server", "Minimal HTTP server", Set.of("rust", "web"), Project.ProjectType.SIDE_PROJECT, 10L);
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        assertThat(index.search("chess", NO_FILTERS, 0, 10).ids()).containsExactly(1L, 2L);
+        assertThat(index.search("rust", NO_FILTERS, 0, 10).ids()).containsExactly(3L, 1L);
+        assertThat(index.search("Rust engine", NO_FILTERS, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("golang", NO_FILTERS, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void appliesFiltersAndPagesNewestFirstWithoutWords() {
+        ProjectSearchIndex.Filters sideProjects = new ProjectSearchIndex.Filters(Project.ProjectType.SIDE_PROJECT, null, null, null);
+        assertThat(index.search("rust", sideProjects, 0, 10).ids()).containsExactly(3L, 1L);
+        assertThat(index.search(null, new ProjectSearchIndex.Filters(null, null, Set.of(20L, 30L), null), 0, 10).ids())
+                .containsExactly(2L);
+
+        ProjectSearchIndex.Hits first = index.search(" ", NO_FILTERS, 0, 2);
+        assertThat(first.ids()).containsExactly(3L, 2L);
+        assertThat(first.hasMore()).isTrue();
+        ProjectSearchIndex.Hits second = index.search(" ", NO_FILTERS, 2, 2);
+        assertThat(second.ids()).containsExactly(1L);
+        assertThat(second.hasMore()).isFalse();
+    }
+
+    @Test
+    void followsChangesAndDeletions() {
+        index(2L, "Weather station", "Sensors on a roof", Set.of("iot"), Project.ProjectType.HACKATHON, 20L);
+        assertThat(index.search("chess", NO_FILTERS, 0, 10).ids()).containsExactly(1L);
+
+        index.onProjectDeleted(new ProjectDeletedEvent(1L));
+        assertThat(index.search("chess", NO_FILTERS, 0, 10).ids()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private void index(Long id, String title, String description, Set<String> tags,
+                       Project.ProjectType type, Long skillId) {
+        Skill skill = new Skill();
+        skill.setId(skillId);
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setTags(tags);
+        project.setProjectType(type);
+        project.setStatus(Project.ProjectStatus.PLANNING);
+        project.setRequiredSkills(Set.of(skill));
+        index.onProjectChanged(new ProjectChangedEvent(project));
+    }
+}
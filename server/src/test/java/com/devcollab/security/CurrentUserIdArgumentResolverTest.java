@@ -0,0 +1,62 @@
+package com.devcollab.security;
+
+import com.devcollab.exception.UnauthorizedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrentUserIdArgumentResolverTest {
+
+    private final CurrentUserIdArgumentResolver resolver = new CurrentUserIdArgumentResolver();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void supportsOnlyAnnotatedIdParameters() throws NoSuchMethodException {
+        assertThat(resolver.supportsParameter(parameter(0))).isTrue();
+        assertThat(resolver.supportsParameter(parameter(1))).isFalse();
+        assertThat(resolver.supportsParameter(parameter(2))).isFalse();
+    }
+
+    @Test
+    void resolvesTheAuthenticatedUserId() throws NoSuchMethodException {
+        AuthenticatedUser user = new AuthenticatedUser(7L, "dev@example.com", true, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+
+        assertThat(resolver.resolveArgument(parameter(0), null, null, null)).isEqualTo(7L);
+    }
+
+    @Test
+    void rejectsRequestsWithoutAnAuthenticatedUser() throws NoSuchMethodException {
+        MethodParameter parameter = parameter(0);
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter, null, null, null))
+                .isInstanceOf(UnauthorizedException.class);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("anonymousUser", null, List.of()));
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter, null, null, null))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    private static MethodParameter parameter(int index) throws NoSuchMethodException {
+        return new MethodParameter(Handler.class.getDeclaredMethod("handle", Long.class, Long.class, String.class), index);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handler {
+
+        void handle(@CurrentUserId Long userId, Long otherId, @CurrentUserId String email) {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.devcollab.security;
+
+import com.devcollab.model.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeyForJwtTokenGenerationThatIsLongEnoughForHS256";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 100);
+
+    @Test
+    void verifiesOnceAndReusesClaims() {
+        String token = provider.generateToken(user());
+
+        Claims first = provider.parseValidClaims(token);
+        Claims second = provider.parseValidClaims(token);
+
+        assertThat(first.getSubject()).isEqualTo("dev@example.com");
+        assertThat(second).isSameAs(first);
+        assertThat(provider.validateToken(token, "dev@example.com")).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedAndForeignTokens() {
+        String token = provider.generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String foreign = new JwtTokenProvider(SECRET.replace('t', 'x'), 60_000, 100).generateToken(user());
+
+        assertThat(provider.parseValidClaims(tampered)).isNull();
+        assertThat(provider.parseValidClaims(foreign)).isNull();
+        assertThat(provider.validateToken(foreign)).isFalse();
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        String expired = new JwtTokenProvider(SECRET, -1_000, 100).generateToken(user());
+
+        assertThat(provider.parseValidClaims(expired)).isNull();
+    }
+
+    @Test
+    void buildsPrincipalFromClaims() {
+        User user = user();
+        user.setTokenVersion(3);
+
+        AuthenticatedUser principal = provider.toPrincipal(provider.parseValidClaims(provider.generateToken(user)));
+
+        assertThat(principal).isEqualTo(new AuthenticatedUser(7L, "dev@example.com", true, 3));
+        assertThat(principal.getName()).isEqualTo("dev@example.com");
+    }
+
+    @Test
+    void keepsTheClaimsCacheBoundedUnderConcurrentUse() throws InterruptedException {
+        List<String> tokens = new ArrayList<>();
+        for (long id = 1; id <= 150; id++) {
+            User user = user();
+            user.setId(id);
+            tokens.add(provider.generateToken(user));
+        }
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int round = 0; round < 3; round++) {
+                    for (String token : tokens) {
+                        assertThat(provider.parseValidClaims(token)).isNotNull();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(provider.cachedTokens()).isBetween(1, 100);
+        assertThat(provider.toPrincipal(provider.parseValidClaims(tokens.get(149))).id()).isEqualTo(150L);
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("dev@example.com");
+        return user;
+    }
+}
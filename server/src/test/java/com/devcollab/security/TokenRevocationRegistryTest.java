@@ -0,0 +1,39 @@
+package com.devcollab.security;
+
+import com.devcollab.event.UserProfileChangedEvent;
+import com.devcollab.event.UserTokensRevokedEvent;
+import com.devcollab.model.User;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    private final TokenRevocationRegistry registry = new TokenRevocationRegistry(null);
+
+    @Test
+    void rejectsTokensOlderThanTheRevokedVersion() {
+        assertThat(registry.isActive(1L, 0)).isTrue();
+
+        registry.onUserTokensRevoked(new UserTokensRevokedEvent(1L, 2));
+
+        assertThat(registry.isActive(1L, 1)).isFalse();
+        assertThat(registry.isActive(1L, 2)).isTrue();
+        assertThat(registry.isActive(2L, 0)).isTrue();
+    }
+
+    @Test
+    void tracksDeactivationFromProfileChanges() {
+        User user = new User();
+        user.setId(1L);
+        user.setActive(false);
+        registry.onUserProfileChanged(new UserProfileChangedEvent(user));
+
+        assertThat(registry.isActive(1L, 0)).isFalse();
+
+        user.setActive(true);
+        registry.onUserProfileChanged(new UserProfileChangedEvent(user));
+
+        assertThat(registry.isActive(1L, 0)).isTrue();
+    }
+}
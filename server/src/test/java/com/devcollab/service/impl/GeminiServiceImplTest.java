@@ -0,0 +1,143 @@
+package com.devcollab.service.impl;
+
+import com.devcollab.ai.CircuitBreaker;
+import com.devcollab.ai.ExplanationCache;
+import com.devcollab.ai.RateLimiter;
+import com.devcollab.model.User;
+import com.devcollab.service.GeminiService.DeveloperProfile;
+import com.devcollab.service.GeminiService.MatchCandidate;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiServiceImplTest {
+
+    private static final DeveloperProfile USER = profile("Ada");
+    private static final List<MatchCandidate> CANDIDATES = List.of(
+            new MatchCandidate(profile("Grace"), 80, 2, 1),
+            new MatchCandidate(profile("Linus"), 60, 1, 0),
+            new MatchCandidate(profile("Barbara"), 40, 0, 2));
+
+    private final StubRestTemplate restTemplate = new StubRestTemplate();
+    private final GeminiServiceImpl service = new GeminiServiceImpl(restTemplate,
+            new ExplanationCache(100, 24, "", 100),
+            new CircuitBreaker("gemini", new CircuitBreaker.Settings(10, 10, 100, Duration.ofSeconds(10), 100,
+                    Duration.ofSeconds(1), 1)),
+            new RateLimiter("gemini", 1000, 1000, 10));
+
+    {
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        ReflectionTestUtils.setField(service, "apiUrl", "http://gemini.test/generate");
+        ReflectionTestUtils.setField(service, "model", "test-model");
+    }
+
+    @Test
+    void mapsOutOfOrderItemsByCandidateNumber() {
+        restTemplate.answer("""
+                [{"candidate": 3, "explanation": "About Barbara"},
+                 {"candidate": 1, "explanation": " About Grace "},
+                 {"candidate": 2, "explanation": "About Linus"}]""");
+
+        assertThat(service.generateMatchExplanations(USER, CANDIDATES))
+                .containsExactly("About Grace", "About Linus", "About Barbara");
+        assertThat(restTemplate.requests).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackPerCandidateForMissingItems() {
+        restTemplate.answer("```json\n[{\"candidate\": 2, \"explanation\": \"About Linus\"}]\n```");
+
+        assertThat(service.generateMatchExplanations(USER, CANDIDATES))
+                .containsExactly(fallback(0), "About Linus", fallback(2));
+    }
+
+    @Test
+    void skipsMalformedItems() {
+        restTemplate.answer("""
+                ["text", {"candidate": "first", "explanation": "Unnumbered"},
+                 {"candidate": 1}, {"candidate": 2, "explanation": {"text": "Nested"}},
+                 {"candidate": 3, "explanation": "  "}, {"candidate": 7, "explanation": "Unknown"},
+                 {"candidate": 1, "explanation": "About Grace"}]""");
+
+        assertThat(service.generateMatchExplanations(USER, CANDIDATES))
+                .containsExactly("About Grace", fallback(1), fallback(2));
+    }
+
+    @Test
+    void fallsBackForEveryCandidateWhenTheResponseIsNotAnArray() {
+        restTemplate.answer("Sorry, I cannot help with that.");
+
+        assertThat(service.generateMatchExplanations(USER, CANDIDATES))
+                .containsExactly(fallback(0), fallback(1), fallback(2));
+    }
+
+    @Test
+    void cachesAnsweredCandidatesOnly() {
+        restTemplate.answer("[{\"candidate\": 1, \"explanation\": \"About Grace\"}]");
+        service.generateMatchExplanations(USER, CANDIDATES);
+
+        restTemplate.answer("""
+                [{"candidate": 1, "explanation": "Now about Linus"},
+                 {"candidate": 2, "explanation": "Now about Barbara"}]""");
+
+        assertThat(service.generateMatchExplanations(USER, CANDIDATES))
+                .containsExactly("About Grace", "Now about Linus", "Now about Barbara");
+        assertThat(restTemplate.prompts.get(1)).doesNotContain("Grace").contains("Linus", "Barbara");
+    }
+
+    private String fallback(int index) {
+        MatchCandidate candidate = CANDIDATES.get(index);
+        return service.generateFallbackExplanation(USER, candidate.profile(), candidate.compatibilityScore(),
+                candidate.commonSkills(), candidate.commonInterests());
+    }
+
+    private static DeveloperProfile profile(String name) {
+        return new DeveloperProfile(name, User.ExperienceLevel.INTERMEDIATE, null,
+                List.of("Java"), List.of("web"), 10, "UTC", List.of());
+    }
+
+    /**
+     * Answers every Gemini request with the same generated text
+     */
+    private static class StubRestTemplate extends RestTemplate {
+
+        private final List<String> prompts = new ArrayList<>();
+        private int requests;
+        private String text;
+
+        void answer(String text) {
+            this.text = text;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> postForEntity(String url, Object request, Class<T> responseType, Object... uriVariables) {
+            requests++;
+            prompts.add(String.valueOf(((HttpEntity<?>) request).getBody()));
+
+            JsonObject part = new JsonObject();
+            part.addProperty("text", text);
+            JsonArray parts = new JsonArray();
+            parts.add(part);
+            JsonObject content = new JsonObject();
+            content.add("parts", parts);
+            JsonObject candidate = new JsonObject();
+            candidate.add("content", content);
+            JsonArray candidates = new JsonArray();
+            candidates.add(candidate);
+            JsonObject response = new JsonObject();
+            response.add("candidates", candidates);
+            return (ResponseEntity<T>) ResponseEntity.ok(response.toString());
+        }
+    }
+}
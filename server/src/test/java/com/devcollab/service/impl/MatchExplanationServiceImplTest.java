@@ -0,0 +1,202 @@
+package com.devcollab.service.impl;
+
+import com.devcollab.dto.response.MatchExplanationResponse;
+import com.devcollab.exception.ResourceNotFoundException;
+import com.devcollab.model.User;
+import com.devcollab.service.GeminiService;
+import com.devcollab.service.GeminiService.DeveloperProfile;
+import com.devcollab.service.GeminiService.MatchCandidate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchExplanationServiceImplTest {
+
+    private static final DeveloperProfile USER = profile("Ada");
+    private static final List<MatchCandidate> CANDIDATES = List.of(
+            new MatchCandidate(profile("Grace"), 80, 2, 1),
+            new MatchCandidate(profile("Linus"), 60, 1, 0),
+            new MatchCandidate(profile("Barbara"), 40, 0, 2));
+
+    private MatchExplanationServiceImpl service;
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void usesGeneratedExplanations() {
+        service = service(candidates -> candidates.stream().map(c -> "ai:" + c.profile().fullName()).toList(), 1, 4);
+
+        assertThat(explanations(service.requestExplanations(USER, CANDIDATES)))
+                .containsExactly("ai:Grace", "ai:Linus", "ai:Barbara");
+    }
+
+    @Test
+    void fallsBackForMissingAndFailedExplanations() {
+        service = service(candidates -> List.of("ai:Grace"), 1, 4);
+        assertThat(explanations(service.requestExplanations(USER, CANDIDATES)))
+                .containsExactly("ai:Grace", "rule:Linus", "rule:Barbara");
+
+        service.shutdown();
+        service = service(candidates -> {
+            throw new IllegalStateException("Gemini down");
+        }, 1, 4);
+        assertThat(explanations(service.requestExplanations(USER, CANDIDATES)))
+                .containsExactly("rule:Grace", "rule:Linus", "rule:Barbara");
+    }
+
+    @Test
+    void completesEveryExplanationWhenGenerationThrowsAnError() {
+        service = service(candidates -> {
+            throw new StackOverflowError();
+        }, 1, 4);
+
+        assertThat(explanations(service.requestExplanations(USER, CANDIDATES)))
+                .containsExactly("rule:Grace", "rule:Linus", "rule:Barbara");
+    }
+
+    @Test
+    void fallsBackRightAwayWhenTheQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service = service(candidates -> {
+            started.countDown();
+            await(release);
+            return candidates.stream().map(c -> "ai:" + c.profile().fullName()).toList();
+        }, 1, 1);
+
+        List<String> running = service.requestExplanations(USER, CANDIDATES);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        List<String> queued = service.requestExplanations(USER, CANDIDATES);
+        List<String> rejected = service.requestExplanations(USER, CANDIDATES);
+
+        assertThat(rejected).allSatisfy(token -> assertThat(service.getExplanation(token).getStatus())
+                .isEqualTo(MatchExplanationResponse.ExplanationStatus.READY));
+        assertThat(explanations(rejected)).containsExactly("rule:Grace", "rule:Linus", "rule:Barbara");
+        assertThat(service.getExplanation(queued.get(0)).getStatus())
+                .isEqualTo(MatchExplanationResponse.ExplanationStatus.PENDING);
+
+        release.countDown();
+        assertThat(explanations(running)).containsExactly("ai:Grace", "ai:Linus", "ai:Barbara");
+        assertThat(explanations(queued)).containsExactly("ai:Grace", "ai:Linus", "ai:Barbara");
+    }
+
+    @Test
+    void fallsBackWhenTheExplanationCompletedExceptionally() {
+        AtomicBoolean failed = new AtomicBoolean();
+        service = new MatchExplanationServiceImpl(new StubGeminiService(candidates -> {
+            throw new IllegalStateException("Gemini down");
+        }, name -> {
+            if (name.equals("Grace") && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Fallback failed");
+            }
+            return "rule:" + name;
+        }), 1, 4, 30, 100);
+
+        List<String> tokens = service.requestExplanations(USER, CANDIDATES);
+        assertThat(explanations(tokens)).containsExactly("rule:Grace", "rule:Linus", "rule:Barbara");
+        assertThat(failed).isTrue();
+
+        MatchExplanationResponse response = service.getExplanation(tokens.get(0));
+        assertThat(response.getStatus()).isEqualTo(MatchExplanationResponse.ExplanationStatus.READY);
+        assertThat(response.getExplanation()).isEqualTo("rule:Grace");
+    }
+
+    @Test
+    void evictsTheOldestExplanationsBeyondTheCap() {
+        service = new MatchExplanationServiceImpl(new StubGeminiService(
+                candidates -> candidates.stream().map(c -> "ai:" + c.profile().fullName()).toList(),
+                name -> "rule:" + name), 1, 4, 30, 4);
+
+        List<String> first = service.requestExplanations(USER, CANDIDATES);
+        List<String> second = service.requestExplanations(USER, CANDIDATES);
+
+        assertThatThrownBy(() -> service.getExplanation(first.get(0))).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.getExplanation(first.get(1))).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(explanations(first.subList(2, 3))).containsExactly("ai:Barbara");
+        assertThat(explanations(second)).containsExactly("ai:Grace", "ai:Linus", "ai:Barbara");
+    }
+
+    private List<String> explanations(List<String> tokens) {
+        return tokens.stream()
+                .map(token -> service.awaitExplanation(token).orTimeout(5, TimeUnit.SECONDS).join().getExplanation())
+                .toList();
+    }
+
+    private static MatchExplanationServiceImpl service(Function<List<MatchCandidate>, List<String>> generator,
+                                                       int poolSize, int queueCapacity) {
+        return new MatchExplanationServiceImpl(new StubGeminiService(generator, name -> "rule:" + name),
+                poolSize, queueCapacity, 30, 100);
+    }
+
+    private static DeveloperProfile profile(String name) {
+        return new DeveloperProfile(name, User.ExperienceLevel.INTERMEDIATE, null, List.of(), List.of(), null, null, List.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StubGeminiService(Function<List<MatchCandidate>, List<String>> generator,
+                                     Function<String, String> fallback) implements GeminiService {
+
+        @Override
+        public List<String> generateMatchExplanations(DeveloperProfile user, List<MatchCandidate> candidates) {
+            return generator.apply(candidates);
+        }
+
+        @Override
+        public String generateFallbackExplanation(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
+                                                  int commonSkills, int commonInterests) {
+            return fallback.apply(user2.fullName());
+        }
+
+        @Override
+        public ParsedBioResult parseBio(String bio) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String generateMatchExplanation(User user1, User user2, int compatibilityScore,
+                                               int commonSkills, int commonInterests) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String generateMatchExplanation(DeveloperProfile user1, DeveloperProfile user2, int compatibilityScore,
+                                               int commonSkills, int commonInterests) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<String> findCachedMatchExplanation(DeveloperProfile user1, DeveloperProfile user2,
+                                                           int compatibilityScore, int commonSkills, int commonInterests) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<String> getSkillRecommendations(Long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String enhanceProjectDescription(String originalDescription) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
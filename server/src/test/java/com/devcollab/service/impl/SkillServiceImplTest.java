@@ -0,0 +1,114 @@
+package com.devcollab.service.impl;
+
+import com.devcollab.event.SkillsCreatedEvent;
+import com.devcollab.exception.ResourceNotFoundException;
+import com.devcollab.model.Skill;
+import com.devcollab.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillServiceImplTest {
+
+    private final Map<String, Skill> table = new TreeMap<>();
+    private final List<List<String>> inserts = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+    private final SkillServiceImpl service = new SkillServiceImpl(repository(), null, null, events::add);
+
+    @BeforeEach
+    void populate() {
+        insert("Java", Skill.SkillCategory.BACKEND);
+        insert("Rust", Skill.SkillCategory.BACKEND);
+        insert("Docker", Skill.SkillCategory.DEVOPS);
+    }
+
+    @Test
+    void resolvesIdsExistingNamesAndNewNames() {
+        Set<Skill> skills = service.resolveSkills(List.of(1L, 2L), List.of("Docker", "Zig", "Kotlin", "Java"));
+
+        assertThat(names(skills)).containsExactlyInAnyOrder("Java", "Rust", "Docker", "Zig", "Kotlin");
+        assertThat(inserts).containsExactly(List.of("Kotlin", "Zig"));
+        assertThat(table.get("Zig").getCategory()).isEqualTo(Skill.SkillCategory.OTHER);
+
+        assertThat(events).hasSize(1);
+        SkillsCreatedEvent event = (SkillsCreatedEvent) events.get(0);
+        assertThat(names(event.skills())).containsExactlyInAnyOrder("Zig", "Kotlin");
+        assertThat(skills).containsAll(event.skills());
+    }
+
+    @Test
+    void publishesNothingWhenEveryNameExists() {
+        Set<Skill> skills = service.resolveSkills(List.of(3L), List.of("Java", "Docker"));
+
+        assertThat(names(skills)).containsExactlyInAnyOrder("Java", "Docker");
+        assertThat(inserts).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownIdsBeforeCreatingAnything() {
+        assertThatThrownBy(() -> service.resolveSkills(List.of(1L, 99L), List.of("Zig")))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Skill not found with ID: 99");
+
+        assertThat(inserts).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void createsFromNamesAloneAndIgnoresMissingArguments() {
+        assertThat(names(service.getOrCreateSkills(Set.of("Zig")))).containsExactly("Zig");
+        assertThat(service.resolveSkills(null, null)).isEmpty();
+        assertThat(inserts).containsExactly(List.of("Zig"));
+        assertThat(events).hasSize(1);
+    }
+
+    private void insert(String name, Skill.SkillCategory category) {
+        Skill skill = new Skill();
+        skill.setId((long) table.size() + 1);
+        skill.setName(name);
+        skill.setCategory(category);
+        table.put(name, skill);
+    }
+
+    private static List<String> names(Collection<Skill> skills) {
+        return skills.stream().map(Skill::getName).toList();
+    }
+
+    /**
+     * In-memory repository implementing only what resolveSkills uses
+     */
+    @SuppressWarnings("unchecked")
+    private SkillRepository repository() {
+        return (SkillRepository) Proxy.newProxyInstance(SkillRepository.class.getClassLoader(),
+                new Class<?>[]{SkillRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllById" -> table.values().stream()
+                            .filter(skill -> ((Collection<Long>) args[0]).contains(skill.getId()))
+                            .toList();
+                    case "findByNameIn" -> table.values().stream()
+                            .filter(skill -> ((Collection<String>) args[0]).contains(skill.getName()))
+                            .toList();
+                    case "insertMissing" -> {
+                        String[] names = (String[]) args[0];
+                        inserts.add(List.of(names));
+                        for (String name : names) {
+                            if (!table.containsKey(name)) {
+                                insert(name, Skill.SkillCategory.valueOf((String) args[1]));
+                            }
+                        }
+                        yield names.length;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
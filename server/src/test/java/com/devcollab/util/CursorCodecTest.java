@@ -0,0 +1,32 @@
+package com.devcollab.util;
+
+import com.devcollab.dto.response.CursorPage;
+import com.devcollab.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsPositions() {
+        assertThat(CursorCodec.decode(CursorCodec.encode(12345L))).isEqualTo(12345L);
+        assertThat(CursorCodec.decode(null)).isZero();
+        assertThatThrownBy(() -> CursorCodec.decode("not-a-cursor")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pagesOnlyWhenThereIsAnExtraRow() {
+        CursorPage<String> full = CursorPage.of(List.of(1L, 2L, 3L), 2, id -> id, String::valueOf);
+        CursorPage<String> last = CursorPage.of(List.of(4L), 2, id -> id, String::valueOf);
+
+        assertThat(full.getItems()).containsExactly("1", "2");
+        assertThat(CursorCodec.decode(full.getNextCursor())).isEqualTo(2L);
+        assertThat(last.getItems()).containsExactly("4");
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(CursorPage.sizeOf(10_000)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+}